@@ -0,0 +1,83 @@
+package com.dobongzip.dobong.domain.mainpage.service;
+
+import com.dobongzip.dobong.domain.map.dto.response.TopPlaceDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /mainpage/random-place 경로 비교
+ * - legacy: 요청마다 nh.json 읽기 + 파싱 + DTO 전체 생성 + new Random (기존 구현 그대로)
+ * - store:  HotPlaceStore 스냅샷에서 ThreadLocalRandom 선택 (현재 구현)
+ * - storeWeighted: 반경 2km + 거리 가중 선택 (격자 색인 경유)
+ * gc 프로파일러(build.gradle)로 호출당 할당량(gc.alloc.rate.norm)도 함께 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HotPlaceBenchmark {
+
+    private static final double USER_LAT = 37.6688;
+    private static final double USER_LON = 127.0471;
+
+    private final Resource resource = new ClassPathResource("hotplace/nh.json");
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MainService mainService;
+
+    @Setup
+    public void setUp() {
+        HotPlaceStore store = new HotPlaceStore(resource);
+        store.current();
+        // 랜덤 장소 경로는 HotPlaceStore 만 사용
+        mainService = new MainService(null, null, store);
+    }
+
+    @Benchmark
+    public TopPlaceDto store() {
+        return mainService.getRandomPlaceFromJson(USER_LAT, USER_LON);
+    }
+
+    @Benchmark
+    public TopPlaceDto storeWeighted() {
+        return mainService.getRandomPlaceFromJson(USER_LAT, USER_LON, 2.0, true);
+    }
+
+    @Benchmark
+    public TopPlaceDto legacy() throws IOException {
+        List<TopPlaceDto> places = new ArrayList<>();
+        JsonNode dataNode = objectMapper.readTree(resource.getInputStream()).path("data");
+        for (JsonNode node : dataNode) {
+            TopPlaceDto place = new TopPlaceDto();
+            place.setPlaceId(node.path("placeId").asText(null));
+            place.setName(node.path("name").asText(null));
+            place.setAddress(node.path("address").asText(null));
+            place.setImageUrl(node.path("imageUrl").asText(null));
+            place.setPhone(node.path("phone").asText(null));
+            place.setLatitude(node.path("latitude").asDouble());
+            place.setLongitude(node.path("longitude").asDouble());
+            places.add(place);
+        }
+
+        TopPlaceDto p = places.get(new Random().nextInt(places.size()));
+        double d = haversineKm(USER_LAT, USER_LON, p.getLatitude(), p.getLongitude());
+        p.setDistance(Math.round(d * 10.0) / 10.0);
+        return p;
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 6371.0 * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
@@ -0,0 +1,138 @@
+package com.dobongzip.dobong.domain.map.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장소 리뷰 목록 깊은 페이지 — OFFSET vs 키셋(커서)
+ * - H2 인메모리, 한 장소에 ROWS 건 + (place_id, deleted, created_at, id) 인덱스 (ix_place_review_place 대역)
+ * - offset: 기존 방식 (LIMIT ? OFFSET page*size) → 앞 페이지 행을 모두 읽고 버림
+ * - keyset: PlaceReviewRepository.findRecentByPlaceAfter 와 같은 조건 → 인덱스에서 커서 위치부터 size 건만
+ * - 커서는 Setup 에서 미리 계산 (앱에서는 직전 페이지 응답의 nextCursor)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewScrollBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String PLACE_ID = "ChIJ-bench-place";
+
+    private static final String OFFSET_SQL =
+            "select id, rating, text, created_at from place_review " +
+            "where place_id = ? and deleted = false " +
+            "order by created_at desc, id desc limit ? offset ?";
+
+    private static final String KEYSET_SQL =
+            "select id, rating, text, created_at from place_review " +
+            "where place_id = ? and deleted = false " +
+            "and (created_at < ? or (created_at = ? and id < ?)) " +
+            "order by created_at desc, id desc limit ?";
+
+    /** 몇 번째 페이지를 읽는지 */
+    @Param({"1", "50", "1000", "4000"})
+    private int page;
+
+    private Connection conn;
+    private PreparedStatement offsetStmt;
+    private PreparedStatement keysetStmt;
+    private Timestamp cursorCreatedAt;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:h2:mem:reviews;DB_CLOSE_DELAY=-1");
+        try (Statement st = conn.createStatement()) {
+            st.execute("drop table if exists place_review");
+            st.execute("create table place_review (" +
+                    "id bigint auto_increment primary key, " +
+                    "place_id varchar(100) not null, " +
+                    "author_id bigint not null, " +
+                    "rating double not null, " +
+                    "text varchar(1000), " +
+                    "deleted boolean not null, " +
+                    "created_at timestamp(6) not null)");
+            st.execute("create index ix_place_review_place on place_review (place_id, deleted, created_at, id)");
+        }
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (PreparedStatement ins = conn.prepareStatement(
+                "insert into place_review (place_id, author_id, rating, text, deleted, created_at) values (?, ?, ?, ?, false, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                ins.setString(1, PLACE_ID);
+                ins.setLong(2, i % 5_000);
+                ins.setDouble(3, 1 + (i % 5));
+                ins.setString(4, "review #" + i);
+                // 같은 시각이 여러 건 생기도록 (동률은 id 로 정렬)
+                ins.setTimestamp(5, Timestamp.valueOf(base.plusSeconds(i / 3)));
+                ins.addBatch();
+                if (i % 1_000 == 999) ins.executeBatch();
+            }
+            ins.executeBatch();
+        }
+
+        offsetStmt = conn.prepareStatement(OFFSET_SQL);
+        keysetStmt = conn.prepareStatement(KEYSET_SQL);
+
+        // 직전 페이지 마지막 행 = 커서
+        if (page > 1) {
+            try (PreparedStatement q = conn.prepareStatement(OFFSET_SQL)) {
+                q.setString(1, PLACE_ID);
+                q.setInt(2, 1);
+                q.setInt(3, (page - 1) * PAGE_SIZE - 1);
+                try (ResultSet rs = q.executeQuery()) {
+                    rs.next();
+                    cursorId = rs.getLong("id");
+                    cursorCreatedAt = rs.getTimestamp("created_at");
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute("drop table place_review");
+        }
+        conn.close();
+    }
+
+    @Benchmark
+    public List<Long> offset() throws SQLException {
+        offsetStmt.setString(1, PLACE_ID);
+        offsetStmt.setInt(2, PAGE_SIZE);
+        offsetStmt.setInt(3, (page - 1) * PAGE_SIZE);
+        return ids(offsetStmt);
+    }
+
+    @Benchmark
+    public List<Long> keyset() throws SQLException {
+        if (page == 1) {
+            // 첫 페이지는 두 방식이 같은 쿼리
+            offsetStmt.setString(1, PLACE_ID);
+            offsetStmt.setInt(2, PAGE_SIZE);
+            offsetStmt.setInt(3, 0);
+            return ids(offsetStmt);
+        }
+        keysetStmt.setString(1, PLACE_ID);
+        keysetStmt.setTimestamp(2, cursorCreatedAt);
+        keysetStmt.setTimestamp(3, cursorCreatedAt);
+        keysetStmt.setLong(4, cursorId);
+        keysetStmt.setInt(5, PAGE_SIZE);
+        return ids(keysetStmt);
+    }
+
+    private static List<Long> ids(PreparedStatement stmt) throws SQLException {
+        List<Long> out = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) out.add(rs.getLong(1));
+        }
+        return out;
+    }
+}
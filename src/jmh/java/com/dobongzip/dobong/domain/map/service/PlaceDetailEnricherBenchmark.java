@@ -0,0 +1,130 @@
+package com.dobongzip.dobong.domain.map.service;
+
+import com.dobongzip.dobong.domain.map.cache.PlaceRecordStore;
+import com.dobongzip.dobong.domain.map.cache.PlacesCacheProperties;
+import com.dobongzip.dobong.domain.map.cache.PlacesResponseCache;
+import com.dobongzip.dobong.domain.map.client.GooglePlacesClientV1;
+import com.dobongzip.dobong.domain.map.client.GooglePlacesProperties;
+import com.dobongzip.dobong.domain.map.client.PlacesQuotaBudget;
+import com.dobongzip.dobong.domain.map.client.PlacesQuotaProperties;
+import com.dobongzip.dobong.domain.map.dto.response.PlacesV1PlaceDetailsResponse;
+import com.dobongzip.dobong.global.http.OutboundHttpClients;
+import com.dobongzip.dobong.global.http.OutboundHttpProperties;
+import com.dobongzip.dobong.global.http.Upstream;
+import com.dobongzip.dobong.global.http.UpstreamGuard;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 명소 목록 상세 보강(PlaceDetailEnricher.fetchAll) 지연 — limit 별 p50/p99
+ * - 로컬 스텁 Places 서버: 상세 1건 40~90ms, 2% 는 400ms (느린 꼬리)
+ * - 실제 구성 그대로 (GooglePlacesClientV1 비동기 API → 장소 레코드 → 호출량 예산 → 브레이커/벌크헤드)
+ *   Redis L2 는 끄고, 호출량 한도는 병목이 되지 않게 넉넉히
+ * - 매 호출마다 새 placeId → 캐시 적중 없이 항상 Places 호출
+ * - SampleTime → JMH 결과의 p0.50 / p0.99 가 limit 별 p50 / p99
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PlaceDetailEnricherBenchmark {
+
+    @Param({"5", "10", "20", "30"})
+    private int limit;
+
+    private HttpServer server;
+    private ThreadPoolExecutor serverThreads;
+    private PlaceDetailEnricher enricher;
+    private final AtomicLong seq = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        serverThreads = new ThreadPoolExecutor(64, 64, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        serverThreads.prestartAllCoreThreads();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.setExecutor(serverThreads);
+        server.createContext("/v1/places/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String id = path.substring(path.lastIndexOf('/') + 1);
+            ThreadLocalRandom r = ThreadLocalRandom.current();
+            long delay = r.nextInt(100) < 2 ? 400 : 40 + r.nextInt(51);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"id\":\"" + id + "\",\"displayName\":{\"text\":\"stub\"},"
+                    + "\"nationalPhoneNumber\":\"02-000-0000\",\"editorialSummary\":{\"text\":\"stub\"}}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        GooglePlacesProperties places = new GooglePlacesProperties();
+        places.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/v1");
+        places.setApiKey("bench");
+        places.setLanguage("ko");
+        places.setRegion("KR");
+
+        PlacesCacheProperties cacheProps = new PlacesCacheProperties();
+        cacheProps.setL2Enabled(false);
+
+        PlacesQuotaProperties quota = new PlacesQuotaProperties();
+        quota.getDetails().setRatePerSecond(100_000);
+        quota.getDetails().setBurst(100_000);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OutboundHttpClients clients = new OutboundHttpClients(new OutboundHttpProperties());
+        GooglePlacesClientV1 v1 = new GooglePlacesClientV1(
+                new RestTemplate(clients.requestFactory(Upstream.GOOGLE)),
+                WebClient.builder().clientConnector(clients.connector(Upstream.GOOGLE)).build(),
+                places,
+                new PlacesResponseCache(null, cacheProps, registry),
+                new PlaceRecordStore(null, cacheProps, registry),
+                new UpstreamGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults()),
+                new PlacesQuotaBudget(quota, registry));
+
+        // 운영 기본값 (parallelism 8, call-timeout 1500ms, timeout 2500ms)
+        enricher = new PlaceDetailEnricher(v1, 8, 1500, 2500);
+
+        enricher.fetchAll(nextIds()); // 연결 예열
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public Map<String, PlacesV1PlaceDetailsResponse> fetchAll() {
+        return enricher.fetchAll(nextIds());
+    }
+
+    private List<String> nextIds() {
+        long round = seq.incrementAndGet();
+        List<String> ids = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) ids.add("bench-" + round + "-" + i);
+        return ids;
+    }
+}
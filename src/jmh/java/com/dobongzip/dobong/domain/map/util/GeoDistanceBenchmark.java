@@ -0,0 +1,83 @@
+package com.dobongzip.dobong.domain.map.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 기준점 → n 개 점 거리 계산 비교 (도봉구 일대 무작위 좌표)
+ * - scalar: 점마다 GeoUtils.distanceMeters (toRadians/cos 반복)
+ * - batch:  GeoUtils.distancesMeters (점별 cos(위도) 미리 계산)
+ * - approx: GeoUtils.approxDistancesMeters (등장방형, 점당 삼각함수 없음)
+ * - topK:   GeoUtils.nearestK vs 거리 계산 후 박싱 정렬
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoDistanceBenchmark {
+
+    private static final double USER_LAT = 37.6688;
+    private static final double USER_LON = 127.0471;
+    private static final int K = 10;
+
+    @Param({"100", "1000", "10000"})
+    private int n;
+
+    private double[] lats;
+    private double[] lons;
+    private GeoUtils.Points points;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        Random r = new Random(42);
+        lats = new double[n];
+        lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 37.62 + r.nextDouble() * 0.10;
+            lons[i] = 127.00 + r.nextDouble() * 0.07;
+        }
+        points = GeoUtils.Points.of(lats, lons);
+        out = new double[n];
+    }
+
+    @Benchmark
+    public double[] scalar() {
+        for (int i = 0; i < n; i++) {
+            out[i] = GeoUtils.distanceMeters(USER_LAT, USER_LON, lats[i], lons[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public double[] batch() {
+        GeoUtils.distancesMeters(USER_LAT, USER_LON, points, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] approx() {
+        GeoUtils.approxDistancesMeters(USER_LAT, USER_LON, points, out);
+        return out;
+    }
+
+    @Benchmark
+    public int[] topK() {
+        return GeoUtils.nearestK(USER_LAT, USER_LON, points, K);
+    }
+
+    @Benchmark
+    public void topKBySort(Blackhole bh) {
+        Integer[] order = new Integer[n];
+        double[] d = new double[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            d[i] = GeoUtils.distanceMeters(USER_LAT, USER_LON, lats[i], lons[i]);
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(d[a], d[b]));
+        for (int i = 0; i < Math.min(K, n); i++) bh.consume(order[i].intValue());
+    }
+}
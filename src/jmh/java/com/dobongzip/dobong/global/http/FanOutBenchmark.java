@@ -0,0 +1,118 @@
+package com.dobongzip.dobong.global.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 외부 호출 n 개 묶음(fan-out) — 블로킹 vs 비동기
+ * - 로컬 스텁 서버가 DELAY_MS 뒤 응답 (Google Places 상세 1건 대역)
+ * - blockingPool: RestTemplate + 고정 스레드 풀 (기존 PlaceDetailEnricher 방식, 풀 크기 8)
+ * - reactive:     WebClient + flatMap (GooglePlacesClientV1 *Async 방식, 동시 n 개)
+ * - 두 쪽 모두 OutboundHttpClients 의 같은 Reactor Netty 연결 풀 사용
+ * - 반복(iteration)마다 최대 스레드 수를 출력 → 스텁 서버 스레드는 미리 띄워 두므로 차이가 곧 호출 쪽 스레드
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FanOutBenchmark {
+
+    private static final long DELAY_MS = 50;
+    private static final int POOL_SIZE = 8;
+
+    @Param({"10", "30"})
+    private int fanOut;
+
+    private HttpServer server;
+    private ThreadPoolExecutor serverThreads;
+    private OutboundHttpClients clients;
+    private RestTemplate restTemplate;
+    private WebClient webClient;
+    private ExecutorService blockingPool;
+    private String url;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private int baselineThreads;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        serverThreads = new ThreadPoolExecutor(64, 64, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        serverThreads.prestartAllCoreThreads();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.setExecutor(serverThreads);
+        server.createContext("/place", exchange -> {
+            try {
+                Thread.sleep(DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"id\":\"stub\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/place";
+
+        clients = new OutboundHttpClients(new OutboundHttpProperties());
+        restTemplate = new RestTemplate(clients.requestFactory(Upstream.GOOGLE));
+        webClient = WebClient.builder().clientConnector(clients.connector(Upstream.GOOGLE)).build();
+        blockingPool = Executors.newFixedThreadPool(POOL_SIZE);
+
+        // 연결/이벤트 루프 예열 후 기준 스레드 수
+        webClient.get().uri(url).retrieve().bodyToMono(String.class).block();
+        restTemplate.getForObject(url, String.class);
+        baselineThreads = threads.getThreadCount();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeak() {
+        threads.resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportThreads() {
+        System.out.printf("%n[threads] fanOut=%d baseline=%d peak=%d%n",
+                fanOut, baselineThreads, threads.getPeakThreadCount());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        blockingPool.shutdownNow();
+        clients.shutdown();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public List<String> blockingPool() throws Exception {
+        List<Future<String>> futures = new ArrayList<>(fanOut);
+        for (int i = 0; i < fanOut; i++) {
+            futures.add(blockingPool.submit(() -> restTemplate.getForObject(url, String.class)));
+        }
+        List<String> out = new ArrayList<>(fanOut);
+        for (Future<String> f : futures) out.add(f.get());
+        return out;
+    }
+
+    @Benchmark
+    public List<String> reactive() {
+        return Flux.range(0, fanOut)
+                .flatMap(i -> webClient.get().uri(url).retrieve().bodyToMono(String.class), fanOut)
+                .collectList()
+                .block();
+    }
+}
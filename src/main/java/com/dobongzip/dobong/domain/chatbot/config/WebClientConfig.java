@@ -1,30 +0,0 @@
-package com.dobongzip.dobong.domain.chatbot.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.netty.http.client.HttpClient;
-import java.time.Duration;
-
-@Configuration
-public class WebClientConfig {
-
-    @Bean
-    public WebClient pythonWebClient(
-            @Value("${spring.python.url}") String baseUrl
-    ) {
-        HttpClient hc = HttpClient.create()
-                .responseTimeout(Duration.ofSeconds(10));
-
-        return WebClient.builder()
-                .baseUrl(baseUrl)
-                .clientConnector(new ReactorClientHttpConnector(hc))
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
-    }
-}
-
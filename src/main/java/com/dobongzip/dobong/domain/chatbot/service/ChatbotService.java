@@ -4,15 +4,22 @@ import com.dobongzip.dobong.domain.chatbot.dto.request.PythonChatRequest;
 import com.dobongzip.dobong.domain.chatbot.dto.request.PythonRecommendRequest;
 import com.dobongzip.dobong.domain.chatbot.dto.response.PythonChatResponse;
 import com.dobongzip.dobong.domain.chatbot.dto.response.PythonRecommendResponse;
-import lombok.RequiredArgsConstructor;
+import com.dobongzip.dobong.global.http.Upstream;
+import com.dobongzip.dobong.global.http.UpstreamGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Service
-@RequiredArgsConstructor
 public class ChatbotService {
 
     private final WebClient pythonWebClient;
+    private final UpstreamGuard guard;
+
+    public ChatbotService(@Qualifier("pythonWebClient") WebClient pythonWebClient, UpstreamGuard guard) {
+        this.pythonWebClient = pythonWebClient;
+        this.guard = guard;
+    }
 
     public PythonRecommendResponse getRecommendation(PythonRecommendRequest requestDto) {
         int kValue = requestDto.k() != null ? requestDto.k() : 5;
@@ -23,12 +30,13 @@ public class ChatbotService {
                 requestDto.userLocation()
         );
 
-        return pythonWebClient.post()
+        // 챗봇 서버 장애 시 즉시 503 (요청 스레드를 타임아웃까지 잡아두지 않음)
+        return guard.call(Upstream.PYTHON, () -> pythonWebClient.post()
                 .uri("/api/dobong/recommend")
                 .bodyValue(pythonRequest)
                 .retrieve()
                 .bodyToMono(PythonRecommendResponse.class)
-                .block();
+                .block());
     }
 
     // 추가: 대화형 프록시
@@ -41,12 +49,12 @@ public class ChatbotService {
         );
 
         // Python에서 응답을 받기
-        PythonChatResponse response = pythonWebClient.post()
+        PythonChatResponse response = guard.call(Upstream.PYTHON, () -> pythonWebClient.post()
                 .uri("/api/chatbot")
                 .bodyValue(fixed)
                 .retrieve()
                 .bodyToMono(PythonChatResponse.class)
-                .block();
+                .block());
 
         // 결과가 적으면 안내 메시지 추가
         if (response != null && response.results().size() < kValue) {
@@ -3,6 +3,7 @@ package com.dobongzip.dobong.domain.like.service;
 import com.dobongzip.dobong.domain.like.dto.response.LikeCardResponse;
 import com.dobongzip.dobong.domain.like.entity.PlaceLike;
 import com.dobongzip.dobong.domain.like.repository.PlaceLikeRepository;
+import com.dobongzip.dobong.domain.map.cache.PlaceFieldGroup;
 import com.dobongzip.dobong.domain.map.client.GooglePlacesClientV1;
 import com.dobongzip.dobong.domain.user.entity.User;
 import com.dobongzip.dobong.global.exception.BusinessException;
@@ -16,12 +17,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class LikeService {
 
+    /** 좋아요 스냅샷(장소명/대표사진)에 필요한 묶음만 */
+    private static final Set<PlaceFieldGroup> SNAPSHOT_GROUPS = Set.of(PlaceFieldGroup.SUMMARY);
+
     private final PlaceLikeRepository placeLikeRepository;
     private final GooglePlacesClientV1 v1;
     private final AuthenticatedProvider authenticatedProvider;
@@ -37,7 +42,7 @@ public class LikeService {
         if (placeLikeRepository.existsByUser_IdAndPlaceId(uid, placeId)) return;
 
         // 스냅샷(장소명/대표사진) — 없어도 동작
-        var d = v1.fetchPlaceDetails(placeId);
+        var d = v1.fetchPlace(placeId, SNAPSHOT_GROUPS);
         String name = (d != null && d.getDisplayName()!=null) ? d.getDisplayName().getText() : null;
         String photoName = (d != null && d.getPhotos()!=null && !d.getPhotos().isEmpty())
                 ? d.getPhotos().get(0).getName() : null;
@@ -1,33 +1,32 @@
 package com.dobongzip.dobong.domain.mainpage.client;
 
+import com.dobongzip.dobong.global.http.Upstream;
+import com.dobongzip.dobong.global.http.UpstreamGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.nio.charset.StandardCharsets;
-
 @Component
 public class DobongOpenApiClient {
 
     private final RestTemplate restTemplate;
+    private final UpstreamGuard guard;
     private final String baseUrl;
     private final String apiKey;
     private final String contCode;
     private final String type;
 
     public DobongOpenApiClient(
+            @Qualifier("dobongRestTemplate") RestTemplate restTemplate, // UTF-8 변환기 포함 (OutboundHttpConfig)
+            UpstreamGuard guard,
             @Value("${spring.dobong.api.base-url}") String baseUrl,
             @Value("${spring.dobong.api.api-key}") String apiKey,
             @Value("${spring.dobong.api.cont-code}") String contCode
     ) {
-        this.restTemplate = new RestTemplate();
-        // 한글 깨짐 방지 - UTF-8 설정
-        this.restTemplate.getMessageConverters().add(0,
-                new StringHttpMessageConverter(StandardCharsets.UTF_8)
-        );
-
+        this.restTemplate = restTemplate;
+        this.guard = guard;
         this.baseUrl = baseUrl;
         this.apiKey = apiKey;
         this.contCode = contCode;
@@ -41,6 +40,6 @@ public class DobongOpenApiClient {
                 .queryParam("type", type)
                 .toUriString();
 
-        return restTemplate.getForObject(uri, String.class);
+        return guard.call(Upstream.DOBONG, () -> restTemplate.getForObject(uri, String.class));
     }
 }
@@ -1,9 +1,11 @@
 package com.dobongzip.dobong.domain.mainpage.client;
 
 import com.dobongzip.dobong.domain.mainpage.dto.response.SeoulEventResponse;
+import com.dobongzip.dobong.global.http.Upstream;
+import com.dobongzip.dobong.global.http.UpstreamGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import com.dobongzip.dobong.domain.mainpage.dto.response.EventDto;
 import lombok.extern.slf4j.Slf4j;
@@ -23,21 +25,19 @@ public class SeoulEventClient {
     private String baseUrl;
 
     private final WebClient webClient;
+    private final UpstreamGuard guard;
 
-    public SeoulEventClient() {
-        var strategies = ExchangeStrategies.builder()
-                .codecs(c -> c.defaultCodecs().maxInMemorySize(4 * 1024 * 1024)) // 4MB
-                .build();
-        this.webClient = WebClient.builder()
-                .exchangeStrategies(strategies)
-                .build();
+    public SeoulEventClient(@Qualifier("seoulWebClient") WebClient webClient, UpstreamGuard guard) {
+        this.webClient = webClient; // 4MB 버퍼 (OutboundHttpConfig)
+        this.guard = guard;
     }
 
     /** 날짜 없이 전수 호출 (1~1000) */
     public SeoulEventResponse callAll() {
         String url = String.format("%s/%s/json/culturalEventInfo/1/1000", baseUrl, apiKey);
         log.info("[SeoulAPI] URL={}", url);
-        return webClient.get().uri(url).retrieve().bodyToMono(SeoulEventResponse.class).block();
+        return guard.call(Upstream.SEOUL,
+                () -> webClient.get().uri(url).retrieve().bodyToMono(SeoulEventResponse.class).block());
     }
 
     /** (옵션) 페이지 분할 호출: 메모리 더 아끼고 싶을 때 사용 */
@@ -48,8 +48,8 @@ public class SeoulEventClient {
             int end = start + pageSize - 1;
             String url = String.format("%s/%s/json/culturalEventInfo/%d/%d", baseUrl, apiKey, start, end);
             log.info("[SeoulAPI] URL={}", url);
-            SeoulEventResponse res = webClient.get().uri(url).retrieve()
-                    .bodyToMono(SeoulEventResponse.class).block();
+            SeoulEventResponse res = guard.call(Upstream.SEOUL, () -> webClient.get().uri(url).retrieve()
+                    .bodyToMono(SeoulEventResponse.class).block());
 
             List<EventDto> rows = Optional.ofNullable(res)
                     .map(SeoulEventResponse::getCulturalEventInfo)
@@ -53,25 +53,28 @@ public class MainController {
 
     @Operation(
             summary = "도봉구 행사 상세 조회",
-            description = "목록에서 받은 id로 단일 행사 정보를 반환합니다."
+            description = "목록에서 받은 id로 단일 행사 정보를 반환합니다.<br>" +
+                    "`date`는 이전 버전 호환용으로만 받으며, 조회는 날짜와 무관하게 id로 이루어집니다."
     )
     @GetMapping("/dobong/{id}")
     public ResponseEntity<CommonResponse<EventDto>> getDobongEventDetail(
             @PathVariable String id,
             @RequestParam(required = false) String date
     ) {
-        EventSearchRequest req = new EventSearchRequest();
-        req.setDate(date);
-        return ResponseEntity.ok(CommonResponse.onSuccess(mainService.getDobongEventDetailRaw(id, req)));
+        return ResponseEntity.ok(CommonResponse.onSuccess(mainService.getDobongEventDetailRaw(id)));
     }
 
     @Operation(
             summary = "도봉구 문화유산 목록(사진+이름)",
-            description = "도봉구 문화유산을 사진과 이름만 묶어 간단 목록으로 반환합니다. 각 항목의 id는 상세조회용 식별자입니다."
+            description = "도봉구 문화유산을 사진과 이름만 묶어 간단 목록으로 반환합니다. 각 항목의 id는 상세조회용 식별자입니다.<br>" +
+                    "`lat`, `lng` (선택): 사용자 위치. 주면 가까운 순으로 정렬하고 거리(km)를 함께 반환합니다. (좌표 없는 유산은 맨 뒤)"
     )
     @GetMapping("/heritage/list")
-    public ResponseEntity<CommonResponse<List<HeritageListItemDto>>> listHeritage() {
-        return ResponseEntity.ok(CommonResponse.onSuccess(mainService.listDobongHeritage()));
+    public ResponseEntity<CommonResponse<List<HeritageListItemDto>>> listHeritage(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng
+    ) {
+        return ResponseEntity.ok(CommonResponse.onSuccess(mainService.listDobongHeritage(lat, lng)));
     }
 
     @Operation(
@@ -103,15 +106,19 @@ public class MainController {
 
     @Operation(
             summary = "랜덤으로 도봉구 느좋+핫플 장소 반환",
-            description = "도봉구의 느좋+핫플 장소를 랜덤으로 하나 반환합니다. 사용자 위치(lat, lon)를 기준으로 거리를 계산합니다."
+            description = "도봉구의 느좋+핫플 장소를 랜덤으로 하나 반환합니다. 사용자 위치(lat, lon)를 기준으로 거리를 계산합니다.<br>" +
+                    "`radiusKm` (선택): 이 반경(km) 안의 장소 중에서만 고릅니다. 반경 안에 없으면 가장 가까운 장소를 반환합니다.<br>" +
+                    "`weighted` (선택, 기본 false): true 면 가까운 장소일수록 더 잘 뽑힙니다."
     )
     @GetMapping("/random-place")
     public ResponseEntity<CommonResponse<TopPlaceDto>> getRandomPlace(
             @RequestParam double lat,
-            @RequestParam double lon
+            @RequestParam double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "false") boolean weighted
     ) {
         // 서비스 호출 시 사용자 위치를 함께 전달
-        TopPlaceDto randomPlace = mainService.getRandomPlaceFromJson(lat, lon);
+        TopPlaceDto randomPlace = mainService.getRandomPlaceFromJson(lat, lon, radiusKm, weighted);
         return ResponseEntity.ok(CommonResponse.onSuccess(randomPlace));
     }
 }
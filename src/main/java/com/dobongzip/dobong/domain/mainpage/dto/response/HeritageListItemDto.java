@@ -11,4 +11,5 @@ public class HeritageListItemDto {
     private String id;          // 상세조회용 안정적 ID (이름+주소 해시)
     private String name;        // 문화유산명
     private String imageUrl;    // 썸네일(= 구글 places 혹은 placeholder)
+    private Double distance;    // 사용자 위치와의 거리(km, 위치를 보낸 경우만)
 }
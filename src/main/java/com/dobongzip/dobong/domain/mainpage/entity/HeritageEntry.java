@@ -0,0 +1,52 @@
+package com.dobongzip.dobong.domain.mainpage.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도봉 문화유산 카탈로그 스냅샷 (구청 오픈API 원본 + 사진/ID 주입 결과)
+ * - 재기동 직후에도 외부 호출 없이 목록/상세를 내려주기 위한 영속 사본
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "heritage_catalog")
+public class HeritageEntry {
+
+    /** 이름+주소+번호 기반 안정적 ID */
+    @Id
+    @Column(name = "heritage_id", length = 32, nullable = false, updatable = false)
+    private String id;
+
+    @Column(name = "name", length = 200)
+    private String name;
+
+    /** IMAGE_URL/ID 가 주입된 원본 JSON 한 행 */
+    @Column(name = "raw_json", columnDefinition = "TEXT", nullable = false)
+    private String rawJson;
+
+    /** Google Places 사진 조회를 이미 시도했는지 ('사진 없음' → placeholder 도 완료, 일시 실패는 미완료로 남겨 재시도) */
+    @Column(name = "photo_resolved", nullable = false)
+    private boolean photoResolved;
+
+    /** 구청 응답 순서 유지용 */
+    @Column(name = "sort_order", nullable = false)
+    private int sortOrder;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    public HeritageEntry(String id, String name, String rawJson, boolean photoResolved,
+                         int sortOrder, LocalDateTime refreshedAt) {
+        this.id = id;
+        this.name = name;
+        this.rawJson = rawJson;
+        this.photoResolved = photoResolved;
+        this.sortOrder = sortOrder;
+        this.refreshedAt = refreshedAt;
+    }
+}
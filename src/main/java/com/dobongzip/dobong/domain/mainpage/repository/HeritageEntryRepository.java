@@ -0,0 +1,10 @@
+package com.dobongzip.dobong.domain.mainpage.repository;
+
+import com.dobongzip.dobong.domain.mainpage.entity.HeritageEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface HeritageEntryRepository extends JpaRepository<HeritageEntry, String> {
+    List<HeritageEntry> findAllByOrderBySortOrderAsc();
+}
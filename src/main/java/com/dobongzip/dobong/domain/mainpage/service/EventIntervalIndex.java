@@ -0,0 +1,98 @@
+package com.dobongzip.dobong.domain.mainpage.service;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 행사 기간(epoch-day 구간) 인덱스
+ * - 시작일 오름차순으로 정렬한 배열 위에 암묵적 균형 트리를 얹고, 노드마다 서브트리 최대 종료일을 보관
+ * - "X 일에 진행 중인 행사" 조회가 O(log n + k)
+ * - 한 행사가 여러 구간(단일 DATE + 기간)을 가질 수 있어 결과는 행사 번호 기준으로 중복 제거
+ */
+public final class EventIntervalIndex {
+
+    /** 시작일 없음 (= 아주 먼 과거부터) */
+    public static final long OPEN_START = Long.MIN_VALUE;
+    /** 종료일 없음 (= 아주 먼 미래까지) */
+    public static final long OPEN_END = Long.MAX_VALUE;
+
+    private final long[] start;
+    private final long[] end;
+    private final int[] owner;
+    private final long[] maxEnd;
+
+    private EventIntervalIndex(long[] start, long[] end, int[] owner) {
+        this.start = start;
+        this.end = end;
+        this.owner = owner;
+        this.maxEnd = new long[start.length];
+        fillMaxEnd(0, start.length - 1);
+    }
+
+    public static Builder builder() { return new Builder(); }
+
+    public int size() { return start.length; }
+
+    /** day(epoch-day)에 걸치는 행사 번호들 — 오름차순(= 원본 순서) */
+    public int[] stab(long day) {
+        BitSet hits = new BitSet();
+        collect(0, start.length - 1, day, hits);
+        return hits.stream().toArray();
+    }
+
+    private void collect(int lo, int hi, long day, BitSet hits) {
+        if (lo > hi) return;
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] < day) return;          // 서브트리 전체가 day 이전에 종료
+        collect(lo, mid - 1, day, hits);
+        if (start[mid] > day) return;           // mid 이후는 모두 day 이후 시작
+        if (end[mid] >= day) hits.set(owner[mid]);
+        collect(mid + 1, hi, day, hits);
+    }
+
+    private long fillMaxEnd(int lo, int hi) {
+        if (lo > hi) return Long.MIN_VALUE;
+        int mid = (lo + hi) >>> 1;
+        long m = Math.max(end[mid], Math.max(fillMaxEnd(lo, mid - 1), fillMaxEnd(mid + 1, hi)));
+        maxEnd[mid] = m;
+        return m;
+    }
+
+    public static final class Builder {
+        private long[] start = new long[64];
+        private long[] end = new long[64];
+        private int[] owner = new int[64];
+        private int n;
+
+        /** eventNo 번 행사에 [startDay, endDay] 구간 추가 (양끝 포함) */
+        public Builder add(int eventNo, long startDay, long endDay) {
+            if (startDay > endDay) return this; // 뒤집힌 기간은 어떤 날짜에도 걸리지 않음
+            if (n == start.length) {
+                start = Arrays.copyOf(start, n * 2);
+                end = Arrays.copyOf(end, n * 2);
+                owner = Arrays.copyOf(owner, n * 2);
+            }
+            start[n] = startDay;
+            end[n] = endDay;
+            owner[n] = eventNo;
+            n++;
+            return this;
+        }
+
+        public EventIntervalIndex build() {
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Long.compare(start[a], start[b]));
+
+            long[] s = new long[n];
+            long[] e = new long[n];
+            int[] o = new int[n];
+            for (int i = 0; i < n; i++) {
+                s[i] = start[order[i]];
+                e[i] = end[order[i]];
+                o[i] = owner[order[i]];
+            }
+            return new EventIntervalIndex(s, e, o);
+        }
+    }
+}
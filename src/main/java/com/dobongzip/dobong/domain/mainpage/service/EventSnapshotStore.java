@@ -0,0 +1,233 @@
+package com.dobongzip.dobong.domain.mainpage.service;
+
+import com.dobongzip.dobong.domain.mainpage.client.SeoulEventClient;
+import com.dobongzip.dobong.domain.mainpage.dto.response.EventDto;
+import com.dobongzip.dobong.domain.mainpage.dto.response.SeoulEventResponse;
+import com.dobongzip.dobong.global.exception.BusinessException;
+import com.dobongzip.dobong.global.response.StatusCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 서울시 문화행사 스냅샷
+ * - 1000건 원본을 주기적으로 한 번만 받아 도봉 행사만 남기고, 날짜는 적재 시 epoch-day 로 한 번만 파싱
+ * - 날짜별 조회는 {@link EventIntervalIndex} 로 처리 → 과거/미래 날짜 요청도 외부 호출 없음
+ * - 상세 ID 도 적재 시 한 번만 계산해 ID → 행사 해시 인덱스로 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSnapshotStore {
+
+    /** 날짜 없음/파싱 실패 */
+    static final long NO_DATE = Long.MIN_VALUE;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final SeoulEventClient client;
+
+    private volatile Snapshot snapshot;
+
+    /** 불변 스냅샷 — events/ids 는 원본 순서의 도봉 행사와 그 상세 ID (같은 번호) */
+    public record Snapshot(List<EventDto> events,
+                           List<String> ids,
+                           Map<String, EventDto> byId,
+                           EventIntervalIndex index,
+                           LocalDateTime loadedAt) {
+
+        /** day 에 진행 중인 행사 번호 (원본 순서 유지) */
+        public int[] activeIndexes(LocalDate day) {
+            return index.stab(day.toEpochDay());
+        }
+
+        /** day 에 진행 중인 행사 (원본 순서 유지) */
+        public List<EventDto> activeOn(LocalDate day) {
+            int[] hits = activeIndexes(day);
+            List<EventDto> out = new ArrayList<>(hits.length);
+            for (int i : hits) out.add(events.get(i));
+            return out;
+        }
+
+        /** 상세 ID 로 조회 — 날짜와 무관하게 스냅샷 전체에서 O(1) */
+        public Optional<EventDto> find(String id) {
+            return Optional.ofNullable(byId.get(id));
+        }
+    }
+
+    /** 현재 스냅샷 (아직 없으면 이 요청에서 한 번 적재) */
+    public Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) return s;
+
+        synchronized (this) {
+            if (snapshot == null) snapshot = load();
+            return snapshot;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.warn("[EventSnapshot] warm-up failed, will load on first request", e);
+        }
+    }
+
+    /** 주기 갱신 (기본 30분) — 실패 시 기존 스냅샷 유지 */
+    @Scheduled(fixedDelayString = "${app.event.refresh-interval-ms:1800000}",
+            initialDelayString = "${app.event.refresh-interval-ms:1800000}")
+    public void refresh() {
+        try {
+            snapshot = load();
+        } catch (Exception e) {
+            log.warn("[EventSnapshot] refresh failed, keep previous", e);
+        }
+    }
+
+    private Snapshot load() {
+        // 1) 외부 API 호출
+        final SeoulEventResponse res;
+        try {
+            res = client.callAll(); // 필요 시 callAllRowsPaged 로 교체 가능
+        } catch (Exception ex) {
+            log.error("[SeoulEvent] API call failed", ex);
+            // 외부 API 호출 실패 → 502
+            throw BusinessException.of(StatusCode.SEOUL_EVENT_API_FAILED);
+        }
+
+        // 2) 응답 검증
+        if (res == null
+                || res.getCulturalEventInfo() == null
+                || res.getCulturalEventInfo().getRow() == null) {
+            // 응답 포맷 이상 → 502
+            throw BusinessException.of(StatusCode.SEOUL_EVENT_API_BAD_RESPONSE);
+        }
+
+        List<EventDto> rows = res.getCulturalEventInfo().getRow();
+
+        // ── 진단 로그(유지) ──
+        log.info("RAW_TOTAL={}", rows.size());
+        rows.stream().map(EventDto::getGuName).filter(Objects::nonNull)
+                .map(String::trim).distinct().sorted()
+                .forEach(gu -> log.info("GUNAME_DIST={}", gu));
+        rows.stream().limit(2).forEach(r -> {
+            try { log.info("SAMPLE_ROW={}", new ObjectMapper().writeValueAsString(r)); }
+            catch (Exception ignore) {}
+        });
+
+        // 3) 도봉 필터링 + 상세 ID + 날짜 구간 인덱싱 (한 번만)
+        List<EventDto> dobong = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        Map<String, EventDto> byId = new HashMap<>();
+        EventIntervalIndex.Builder index = EventIntervalIndex.builder();
+        for (EventDto e : rows) {
+            if (!isDobong(e)) continue;
+            int no = dobong.size();
+            String id = stableEventId(e);
+            dobong.add(e);
+            ids.add(id);
+            byId.putIfAbsent(id, e); // 동일 키 중복 행은 첫 행 우선 (기존 findFirst 와 동일)
+
+            // 단일 날짜
+            long d = parseEpochDay(e.getDate());
+            if (d != NO_DATE) index.add(no, d, d);
+
+            // 기간: 한쪽만 있으면 반대쪽은 열린 구간
+            long s = parseEpochDay(e.getStartDate());
+            long t = parseEpochDay(e.getEndDate());
+            if (s != NO_DATE || t != NO_DATE) {
+                index.add(no,
+                        s == NO_DATE ? EventIntervalIndex.OPEN_START : s,
+                        t == NO_DATE ? EventIntervalIndex.OPEN_END : t);
+            }
+        }
+
+        Snapshot next = new Snapshot(List.copyOf(dobong), List.copyOf(ids), Map.copyOf(byId),
+                index.build(), LocalDateTime.now(KST));
+        log.info("COUNTS total={}, dobongOnly={}, intervals={}", rows.size(), dobong.size(), next.index().size());
+        return next;
+    }
+
+    // ───────────────────────── helpers ─────────────────────────
+
+    private static boolean isDobong(EventDto e) {
+        String gu = Optional.ofNullable(e.getGuName()).orElse("").trim();
+        if ("도봉구".equals(gu)) return true;
+        // 보조: 장소 텍스트로 판정
+        String place = Optional.ofNullable(e.getPlace()).orElse("");
+        return place.contains("도봉구") || place.contains("도봉");
+    }
+
+    /** 행사 상세 ID: 제목|날짜|시작|종료|장소 SHA-256 앞 9바이트 (18 hex) */
+    static String stableEventId(EventDto e) {
+        String key = String.join("|",
+                nullToEmpty(e.getTitle()),
+                nullToEmpty(e.getDate()),
+                nullToEmpty(e.getStartDate()),
+                nullToEmpty(e.getEndDate()),
+                nullToEmpty(e.getPlace())
+        ).toLowerCase().trim();
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] h = md.digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(h, 0, 9);
+        } catch (Exception ex) {
+            return String.valueOf(key.hashCode());
+        }
+    }
+
+    private static String nullToEmpty(String s) { return (s == null) ? "" : s; }
+
+    /**
+     * "2025-08-11", "2025.08.11", "20250811", "2025-08-11 00:00:00(.0)" → epoch-day
+     * 정규식/포매터 없이 자리수로만 판정 (모르면 NO_DATE)
+     */
+    static long parseEpochDay(String raw) {
+        if (raw == null) return NO_DATE;
+        String s = raw.trim();
+        if (s.length() > 10 && (s.charAt(10) == ' ' || s.charAt(10) == 'T')) {
+            s = s.substring(0, 10);
+        }
+        try {
+            if (s.length() == 8 && digits(s, 0, 8)) {
+                return LocalDate.of(num(s, 0, 4), num(s, 4, 6), num(s, 6, 8)).toEpochDay();
+            }
+            if (s.length() == 10 && isSep(s.charAt(4)) && isSep(s.charAt(7))
+                    && digits(s, 0, 4) && digits(s, 5, 7) && digits(s, 8, 10)) {
+                return LocalDate.of(num(s, 0, 4), num(s, 5, 7), num(s, 8, 10)).toEpochDay();
+            }
+        } catch (DateTimeException ignore) {
+            // 2025-02-30 같은 잘못된 날짜
+        }
+        return NO_DATE;
+    }
+
+    private static boolean isSep(char c) { return c == '-' || c == '.'; }
+
+    private static boolean digits(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    private static int num(String s, int from, int to) {
+        int v = 0;
+        for (int i = from; i < to; i++) v = v * 10 + (s.charAt(i) - '0');
+        return v;
+    }
+}
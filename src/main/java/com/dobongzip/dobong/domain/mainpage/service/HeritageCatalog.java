@@ -0,0 +1,358 @@
+package com.dobongzip.dobong.domain.mainpage.service;
+
+import com.dobongzip.dobong.domain.mainpage.client.DobongOpenApiClient;
+import com.dobongzip.dobong.domain.mainpage.entity.HeritageEntry;
+import com.dobongzip.dobong.domain.mainpage.repository.HeritageEntryRepository;
+import com.dobongzip.dobong.domain.map.client.GooglePlacesClientV1;
+import com.dobongzip.dobong.domain.map.util.GeoGridIndex;
+import com.dobongzip.dobong.global.exception.BusinessException;
+import com.dobongzip.dobong.global.http.CallPriority;
+import com.dobongzip.dobong.global.response.StatusCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 도봉 문화유산 카탈로그
+ * - 구청 오픈API 를 요청마다 부르지 않고, 주기적으로 한 번 적재해 ID 맵으로 보관
+ * - Google Places 사진/안정적 ID 는 적재 시점에 백그라운드로 주입
+ * - DB(heritage_catalog)에 사본을 남겨 재기동 직후에도 바로 응답
+ * - 좌표가 있는 항목은 스냅샷별 격자 색인(geo)으로 근접 정렬
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeritageCatalog {
+
+    static final String PLACEHOLDER_IMAGE = "https://your.cdn/static/placeholder.png";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final DobongOpenApiClient dobongOpenApiClient;
+    private final GooglePlacesClientV1 placesClient;
+    private final HeritageEntryRepository heritageEntryRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean resolving = new AtomicBoolean(false);
+    private final ExecutorService photoExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "heritage-catalog");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile Geo geo;
+
+    /** 불변 스냅샷 — items 는 읽기 전용으로만 사용 (수정 시 deepCopy) */
+    public record Snapshot(ArrayNode items,
+                           Map<String, ObjectNode> byId,
+                           Set<String> photoResolved,
+                           LocalDateTime loadedAt) {
+        static final Snapshot EMPTY = new Snapshot(JsonNodeFactory.instance.arrayNode(), Map.of(), Set.of(), null);
+
+        public boolean isEmpty() { return byId.isEmpty(); }
+
+        public Optional<ObjectNode> find(String id) { return Optional.ofNullable(byId.get(id)); }
+    }
+
+    // ───────────────────────── 조회 ─────────────────────────
+
+    /** 현재 카탈로그 (비어 있으면 구청 원본만 동기 적재하고 사진은 백그라운드로 채움) */
+    public Snapshot current() {
+        Snapshot s = snapshot;
+        if (!s.isEmpty()) return s;
+
+        synchronized (this) {
+            if (snapshot.isEmpty()) {
+                publish(buildFromFeed(fetchFeed(), snapshot));
+                photoExecutor.submit(this::resolvePhotosAndPersist);
+            }
+            return snapshot;
+        }
+    }
+
+    /** 좌표 색인 — index 의 점 번호 i 가 items.get(i) (좌표 없는 항목은 제외) */
+    public record Geo(Snapshot source, GeoGridIndex index, List<ObjectNode> items) {}
+
+    /** 현재 스냅샷의 좌표 색인 (스냅샷이 바뀐 뒤 첫 호출에서 다시 만듦) */
+    public Geo geo() {
+        Snapshot s = current();
+        Geo g = geo;
+        if (g != null && g.source() == s) return g;
+
+        List<ObjectNode> located = new ArrayList<>();
+        List<double[]> coords = new ArrayList<>();
+        for (ObjectNode item : s.byId().values()) {
+            Double lat = safeDouble(item, "LATITUDE");
+            Double lon = safeDouble(item, "LONGITUDE");
+            if (lat == null || lon == null) continue;
+            located.add(item);
+            coords.add(new double[]{lat, lon});
+        }
+        double[] lats = new double[coords.size()];
+        double[] lons = new double[coords.size()];
+        for (int i = 0; i < coords.size(); i++) {
+            lats[i] = coords.get(i)[0];
+            lons[i] = coords.get(i)[1];
+        }
+        g = new Geo(s, GeoGridIndex.build(lats, lons), List.copyOf(located));
+        geo = g;
+        return g;
+    }
+
+    // ───────────────────────── 적재 ─────────────────────────
+
+    /** 기동 시: DB 사본으로 즉시 채우고, 원본 갱신은 백그라운드로 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            Snapshot fromDb = loadFromDb();
+            if (!fromDb.isEmpty()) {
+                publish(fromDb);
+                log.info("[HeritageCatalog] warm from db size={}", fromDb.byId().size());
+            }
+        } catch (Exception e) {
+            log.warn("[HeritageCatalog] db warm-up failed", e);
+        }
+        photoExecutor.submit(this::refresh);
+    }
+
+    /** 주기 갱신 (기본 6시간) — 적재/사진 주입은 전용 스레드 하나에서 직렬 실행 */
+    @Scheduled(fixedDelayString = "${app.heritage.refresh-interval-ms:21600000}",
+            initialDelayString = "${app.heritage.refresh-interval-ms:21600000}")
+    public void scheduledRefresh() {
+        photoExecutor.submit(this::refresh);
+    }
+
+    void refresh() {
+        try {
+            publish(buildFromFeed(fetchFeed(), snapshot));
+            resolvePhotosAndPersist();
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 스냅샷 유지
+            log.warn("[HeritageCatalog] refresh failed, keep previous size={}", snapshot.byId().size(), e);
+        }
+    }
+
+    /** 사진 미해결 항목만 Google Places 로 조회 → 새 스냅샷 게시 → DB 반영 */
+    void resolvePhotosAndPersist() {
+        if (!resolving.compareAndSet(false, true)) return; // 중복 실행 방지
+        try {
+            Snapshot base = snapshot;
+            Map<String, String> found = new HashMap<>();
+            for (ObjectNode item : base.byId().values()) {
+                String id = safeText(item, "ID");
+                if (base.photoResolved().contains(id)) continue;
+                String url = CallPriority.background(() -> searchPhoto(item));
+                if (url != null) found.put(id, url); // null: 일시 실패/차단/호출량 제한 → 다음 갱신 때 재시도
+            }
+
+            Snapshot next = found.isEmpty() ? base : withPhotos(base, found);
+            if (next != base) publish(next);
+            persist(next);
+        } catch (Exception e) {
+            log.warn("[HeritageCatalog] photo resolution failed", e);
+        } finally {
+            resolving.set(false);
+        }
+    }
+
+    private ArrayNode fetchFeed() {
+        final String response;
+        try {
+            response = dobongOpenApiClient.requestDobongData();
+        } catch (Exception ex) {
+            log.error("[DobongOpenAPI] API call failed", ex);
+            throw BusinessException.of(StatusCode.DOBONG_OPENAPI_FAILED);
+        }
+
+        if (response == null || response.isBlank()) {
+            throw BusinessException.of(StatusCode.DOBONG_OPENAPI_BAD_RESPONSE);
+        }
+
+        try {
+            JsonNode dataNode = objectMapper.readTree(response).get("CONT_DATA_ROW");
+            if (dataNode == null || !dataNode.isArray()) {
+                throw BusinessException.of(StatusCode.DOBONG_OPENAPI_BAD_RESPONSE);
+            }
+            return (ArrayNode) dataNode;
+        } catch (BusinessException be) {
+            throw be;
+        } catch (Exception ex) {
+            log.error("[DobongOpenAPI] JSON parse failed", ex);
+            throw BusinessException.of(StatusCode.DOBONG_OPENAPI_BAD_RESPONSE);
+        }
+    }
+
+    /** 원본 행마다 안정적 ID 주입, 이전 스냅샷에서 해결된 사진은 그대로 재사용 */
+    private Snapshot buildFromFeed(ArrayNode dataNode, Snapshot previous) {
+        ArrayNode items = JsonNodeFactory.instance.arrayNode();
+        Map<String, ObjectNode> byId = new LinkedHashMap<>();
+        Set<String> resolved = new HashSet<>();
+
+        for (JsonNode n : dataNode) {
+            if (!n.isObject()) continue;
+            ObjectNode o = (ObjectNode) n;
+
+            String name = safeText(o, "SHD_NM");
+            String addr = firstNonBlank(safeText(o, "CO_F2"), safeText(o, "SCD_JIBUN_ADDR"));
+            String id = stableId(name, addr, safeText(o, "NUMBER"));
+
+            ObjectNode prev = previous.byId().get(id);
+            if (prev != null && previous.photoResolved().contains(id)) {
+                o.put("IMAGE_URL", prev.path("IMAGE_URL").asText(PLACEHOLDER_IMAGE));
+                resolved.add(id);
+            } else {
+                o.put("IMAGE_URL", PLACEHOLDER_IMAGE);
+            }
+            o.put("ID", id);
+
+            items.add(o);
+            byId.putIfAbsent(id, o);
+        }
+        return new Snapshot(items, Collections.unmodifiableMap(byId),
+                Collections.unmodifiableSet(resolved), LocalDateTime.now(KST));
+    }
+
+    private Snapshot withPhotos(Snapshot base, Map<String, String> photos) {
+        ArrayNode items = JsonNodeFactory.instance.arrayNode();
+        Map<String, ObjectNode> byId = new LinkedHashMap<>();
+        Set<String> resolved = new HashSet<>(base.photoResolved());
+
+        for (JsonNode n : base.items()) {
+            ObjectNode copy = ((ObjectNode) n).deepCopy();
+            String id = safeText(copy, "ID");
+            String url = photos.get(id);
+            if (url != null) {
+                copy.put("IMAGE_URL", url);
+                resolved.add(id);
+            }
+            items.add(copy);
+            byId.putIfAbsent(id, copy);
+        }
+        return new Snapshot(items, Collections.unmodifiableMap(byId),
+                Collections.unmodifiableSet(resolved), base.loadedAt());
+    }
+
+    private String searchPhoto(ObjectNode item) {
+        String name = safeText(item, "SHD_NM");
+        String addr = firstNonBlank(safeText(item, "CO_F2"), safeText(item, "SCD_JIBUN_ADDR"));
+        String query = (name + " " + addr).trim();
+        if (query.isBlank()) return PLACEHOLDER_IMAGE;
+
+        try {
+            return placesClient.searchFirstPhotoUrlByText(query,
+                            safeDouble(item, "LATITUDE"), safeDouble(item, "LONGITUDE"), 800)
+                    .filter(url -> !url.isBlank())
+                    .orElse(PLACEHOLDER_IMAGE);
+        } catch (BusinessException e) {
+            // 일시 실패(5xx/429/타임아웃)·브레이커 열림·한도 초과 → 미해결로 두고 다음 갱신 때 재시도
+            if (e.getStatusCode() != StatusCode.UPSTREAM_UNAVAILABLE
+                    && e.getStatusCode() != StatusCode.PLACES_RATE_LIMITED) {
+                log.warn("[HeritageCatalog] Places photo fetch failed for '{}'", query, e);
+            }
+            return null;
+        } catch (Exception e) {
+            log.warn("[HeritageCatalog] Places photo fetch failed for '{}'", query, e);
+            return null;
+        }
+    }
+
+    private Snapshot loadFromDb() throws Exception {
+        ArrayNode items = JsonNodeFactory.instance.arrayNode();
+        Map<String, ObjectNode> byId = new LinkedHashMap<>();
+        Set<String> resolved = new HashSet<>();
+        LocalDateTime loadedAt = null;
+
+        for (HeritageEntry e : heritageEntryRepository.findAllByOrderBySortOrderAsc()) {
+            ObjectNode o = (ObjectNode) objectMapper.readTree(e.getRawJson());
+            items.add(o);
+            byId.putIfAbsent(e.getId(), o);
+            if (e.isPhotoResolved()) resolved.add(e.getId());
+            if (loadedAt == null || e.getRefreshedAt().isAfter(loadedAt)) loadedAt = e.getRefreshedAt();
+        }
+        return new Snapshot(items, Collections.unmodifiableMap(byId),
+                Collections.unmodifiableSet(resolved), loadedAt);
+    }
+
+    private void persist(Snapshot s) {
+        List<HeritageEntry> rows = new ArrayList<>(s.byId().size());
+        int order = 0;
+        for (ObjectNode item : s.byId().values()) {
+            String id = safeText(item, "ID");
+            rows.add(new HeritageEntry(id, safeText(item, "SHD_NM"), item.toString(),
+                    s.photoResolved().contains(id), order++, s.loadedAt()));
+        }
+        heritageEntryRepository.saveAll(rows);
+
+        // 원본에서 사라진 유산 정리
+        List<String> gone = heritageEntryRepository.findAll().stream()
+                .map(HeritageEntry::getId)
+                .filter(id -> !s.byId().containsKey(id))
+                .toList();
+        if (!gone.isEmpty()) heritageEntryRepository.deleteAllById(gone);
+
+        log.info("[HeritageCatalog] persisted size={} removed={}", rows.size(), gone.size());
+    }
+
+    private void publish(Snapshot s) {
+        this.snapshot = s;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        photoExecutor.shutdownNow();
+    }
+
+    // ───────────────────────── helpers ─────────────────────────
+
+    /** 문화유산용 안정적 ID 생성(이름+주소+번호) */
+    static String stableId(String name, String address, String numberOrEmpty) {
+        String key = (Optional.ofNullable(name).orElse("").trim() + "|" +
+                Optional.ofNullable(address).orElse("").trim() + "|" +
+                Optional.ofNullable(numberOrEmpty).orElse("").trim()
+        ).toLowerCase();
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] h = md.digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 9; i++) sb.append(String.format("%02x", h[i])); // 18 hex
+            return sb.toString();
+        } catch (Exception e) {
+            return String.valueOf(key.hashCode());
+        }
+    }
+
+    private static String safeText(JsonNode n, String field) {
+        JsonNode v = n.get(field);
+        return (v == null || v.isNull()) ? "" : v.asText("");
+    }
+
+    private static String firstNonBlank(String... ss) {
+        for (String s : ss) if (s != null && !s.isBlank()) return s;
+        return "";
+    }
+
+    private static Double safeDouble(JsonNode n, String field) {
+        String s = safeText(n, field);
+        if (s.isBlank()) return null;
+        try { return Double.parseDouble(s); } catch (Exception ignored) { return null; }
+    }
+}
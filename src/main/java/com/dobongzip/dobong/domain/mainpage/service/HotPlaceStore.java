@@ -0,0 +1,145 @@
+package com.dobongzip.dobong.domain.mainpage.service;
+
+import com.dobongzip.dobong.domain.map.util.GeoGridIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 도봉 느좋+핫플 데이터셋 (hotplace/nh.json)
+ * - 한 번만 파싱해 열(column) 배열로 보관: 좌표는 double[], 문자열은 intern
+ * - 조회는 불변 스냅샷 배열 인덱싱만 → 요청마다 파일 읽기/파싱/객체 생성 없음
+ * - 좌표 격자 색인(GeoGridIndex)을 함께 만들어 반경/최근접 조회
+ * - 리소스 수정 시각이 바뀌면 다시 적재 (app.hotplace.location 으로 외부 파일 지정 가능)
+ */
+@Slf4j
+@Component
+public class HotPlaceStore {
+
+    private final Resource resource;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile Snapshot snapshot;
+
+    public HotPlaceStore(@Value("${app.hotplace.location:classpath:hotplace/nh.json}") Resource resource) {
+        this.resource = resource;
+    }
+
+    /** 불변 스냅샷 — 같은 번호가 같은 장소 */
+    public static final class Snapshot {
+        private final String[] placeIds;
+        private final String[] names;
+        private final String[] addresses;
+        private final String[] imageUrls;
+        private final String[] phones;
+        private final double[] lats;
+        private final double[] lons;
+        private final GeoGridIndex geo;
+        private final long lastModified;
+
+        private Snapshot(List<JsonNode> rows, long lastModified) {
+            int n = rows.size();
+            placeIds = new String[n];
+            names = new String[n];
+            addresses = new String[n];
+            imageUrls = new String[n];
+            phones = new String[n];
+            lats = new double[n];
+            lons = new double[n];
+            for (int i = 0; i < n; i++) {
+                JsonNode node = rows.get(i);
+                placeIds[i] = text(node, "placeId");
+                names[i] = text(node, "name");
+                addresses[i] = text(node, "address");
+                imageUrls[i] = text(node, "imageUrl");
+                phones[i] = text(node, "phone");
+                lats[i] = node.path("latitude").asDouble();
+                lons[i] = node.path("longitude").asDouble();
+            }
+            this.geo = GeoGridIndex.build(lats, lons);
+            this.lastModified = lastModified;
+        }
+
+        private static String text(JsonNode node, String field) {
+            String s = node.path(field).asText(null);
+            return (s == null) ? null : s.intern();
+        }
+
+        public int size() { return lats.length; }
+        public String placeId(int i) { return placeIds[i]; }
+        public String name(int i) { return names[i]; }
+        public String address(int i) { return addresses[i]; }
+        public String imageUrl(int i) { return imageUrls[i]; }
+        public String phone(int i) { return phones[i]; }
+        public double lat(int i) { return lats[i]; }
+        public double lon(int i) { return lons[i]; }
+        /** 같은 번호 체계의 공간 색인 */
+        public GeoGridIndex geo() { return geo; }
+    }
+
+    /** 현재 스냅샷 (아직 없으면 이 요청에서 한 번 적재) */
+    public Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) return s;
+
+        synchronized (this) {
+            if (snapshot == null) snapshot = load();
+            return snapshot;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.warn("[HotPlace] warm-up failed, will load on first request", e);
+        }
+    }
+
+    /** 리소스 변경 감지 (기본 1분) — 실패 시 기존 스냅샷 유지 */
+    @Scheduled(fixedDelayString = "${app.hotplace.reload-check-ms:60000}",
+            initialDelayString = "${app.hotplace.reload-check-ms:60000}")
+    public void reloadIfModified() {
+        Snapshot s = snapshot;
+        if (s == null || s.lastModified == 0L) return;
+        try {
+            if (resource.lastModified() == s.lastModified) return;
+            snapshot = load();
+            log.info("[HotPlace] reloaded size={}", snapshot.size());
+        } catch (Exception e) {
+            log.warn("[HotPlace] reload failed, keep previous | {}", e.toString());
+        }
+    }
+
+    private Snapshot load() {
+        long modified = lastModifiedOrZero();
+        List<JsonNode> rows = new ArrayList<>();
+        try (InputStream in = resource.getInputStream()) {
+            JsonNode data = objectMapper.readTree(in).path("data");
+            if (data.isArray()) data.forEach(rows::add);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error reading hotplace JSON", e);
+        }
+        return new Snapshot(rows, modified);
+    }
+
+    private long lastModifiedOrZero() {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L; // 수정 시각을 알 수 없는 리소스 → 변경 감지 없이 최초 적재본 사용
+        }
+    }
+}
@@ -1,16 +1,13 @@
 package com.dobongzip.dobong.domain.mainpage.service;
 
-import com.dobongzip.dobong.domain.mainpage.client.DobongOpenApiClient;
-import com.dobongzip.dobong.domain.mainpage.client.SeoulEventClient;
 import com.dobongzip.dobong.domain.mainpage.dto.request.EventSearchRequest;
 import com.dobongzip.dobong.domain.mainpage.dto.response.EventDto;
 import com.dobongzip.dobong.domain.mainpage.dto.response.EventImageDto;
 import com.dobongzip.dobong.domain.mainpage.dto.response.EventListItemDto;
 import com.dobongzip.dobong.domain.mainpage.dto.response.HeritageDetailDto;
 import com.dobongzip.dobong.domain.mainpage.dto.response.HeritageListItemDto;
-import com.dobongzip.dobong.domain.mainpage.dto.response.SeoulEventResponse;
-import com.dobongzip.dobong.domain.map.client.GooglePlacesClientV1;
 import com.dobongzip.dobong.domain.map.dto.response.TopPlaceDto;
+import com.dobongzip.dobong.domain.map.util.GeoUtils;
 import com.dobongzip.dobong.global.exception.BusinessException;
 import com.dobongzip.dobong.global.response.StatusCode;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -23,35 +20,37 @@ import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MainService {
 
-    @Value("classpath:hotplace/nh.json")
-    private Resource resource;
-
     @Value("classpath:heritage/heritage.json")
     private Resource heritageDescResource;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter F = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private final GooglePlacesClientV1 placesClient;
 
-    private final SeoulEventClient client;
-    private final DobongOpenApiClient dobongOpenApiClient;
+    private final EventSnapshotStore eventSnapshotStore;
+    private final HeritageCatalog heritageCatalog;
+    private final HotPlaceStore hotPlaceStore;
 
     /** 도봉 오늘의 행사 목록 */
     public List<EventDto> getDobongToday(EventSearchRequest req) {
-        // 1) 날짜 파싱(+ 검증)
+        // 스냅샷 인덱스 조회 (외부 호출 없음)
+        // 비즈니스적으로 "없음"은 정상 케이스이므로 빈 리스트 반환(에러 아님)
+        return eventSnapshotStore.current().activeOn(targetDate(req));
+    }
+
+    /** 요청 날짜 파싱(+ 검증), 없으면 오늘 */
+    private LocalDate targetDate(EventSearchRequest req) {
         String dateStr = (req.getDate() == null || req.getDate().isBlank())
                 ? LocalDate.now(KST).format(F)
                 : req.getDate();
@@ -63,73 +62,23 @@ public class MainService {
             // 잘못된 요청 → 400
             throw BusinessException.of(StatusCode.INVALID_DATE_FORMAT);
         }
-
-        // 2) 외부 API 호출
-        final SeoulEventResponse res;
-        try {
-            res = client.callAll(); // 필요 시 callAllRowsPaged 로 교체 가능
-        } catch (Exception ex) {
-            log.error("[SeoulEvent] API call failed", ex);
-            // 외부 API 호출 실패 → 502
-            throw BusinessException.of(StatusCode.SEOUL_EVENT_API_FAILED);
-        }
-
-        // 3) 응답 검증
-        if (res == null
-                || res.getCulturalEventInfo() == null
-                || res.getCulturalEventInfo().getRow() == null) {
-            // 응답 포맷 이상 → 502
-            throw BusinessException.of(StatusCode.SEOUL_EVENT_API_BAD_RESPONSE);
-        }
-
-        List<EventDto> rows = res.getCulturalEventInfo().getRow();
-
-        // ── 진단 로그(유지) ──
-        log.info("RAW_TOTAL={}", rows.size());
-        rows.stream().map(EventDto::getGuName).filter(Objects::nonNull)
-                .map(String::trim).distinct().sorted()
-                .forEach(gu -> log.info("GUNAME_DIST={}", gu));
-        rows.stream().limit(2).forEach(r -> {
-            try { log.info("SAMPLE_ROW={}", new ObjectMapper().writeValueAsString(r)); }
-            catch (Exception ignore) {}
-        });
-
-        // 4) 필터링
-        List<EventDto> result = rows.stream()
-                .filter(e -> isTodayIncluded(e, target))
-                .filter(this::isDobong)
-                .toList();
-
-        // 카운트 로그
-        long todayOnly = rows.stream().filter(e -> isTodayIncluded(e, target)).count();
-        long dobongOnly = rows.stream().filter(this::isDobong).count();
-        log.info("COUNTS total={}, todayOnly={}, dobongOnly={}, final={}",
-                rows.size(), todayOnly, dobongOnly, result.size());
-
-        // 비즈니스적으로 "없음"은 정상 케이스이므로 빈 리스트 반환(에러 아님)
-        return result;
+        return target;
     }
 
     /** 도봉 문화유산(구청 오픈API) */
     public JsonNode getDobongHeritageDetailRaw(String id) {
         if (id == null || id.isBlank()) throw BusinessException.of(StatusCode.INVALID_REQUEST);
 
-        JsonNode data = getDobongCulturalHeritage();
-        Map<String, String> descOverrideMap = getHeritageDescMap();
-
-        for (JsonNode item : data) {
-            if (id.equals(safeText(item, "ID"))) {
-                String override = descOverrideMap.get(id);
+        ObjectNode item = heritageCatalog.current().find(id)
+                .orElseThrow(() -> BusinessException.of(StatusCode.RESOURCE_NOT_FOUND));
+        String override = getHeritageDescMap().get(id);
 
-                // 외부 원문 폴백 제거 → 오버라이드 없으면 빈 문자열
-                String finalDesc = (override != null && !override.isBlank()) ? override : "";
+        // 외부 원문 폴백 제거 → 오버라이드 없으면 빈 문자열
+        String finalDesc = (override != null && !override.isBlank()) ? override : "";
 
-                ObjectNode copy = ((ObjectNode) item).deepCopy();
-                copy.put("description", finalDesc);
-                return copy;
-            }
-        }
-        throw BusinessException.of(StatusCode.RESOURCE_NOT_FOUND);
+        ObjectNode copy = item.deepCopy();
+        copy.put("description", finalDesc);
+        return copy;
     }
 
 
@@ -137,108 +86,47 @@ public class MainService {
     public HeritageDetailDto getDobongHeritageDetail(String id) {
         if (id == null || id.isBlank()) throw BusinessException.of(StatusCode.INVALID_REQUEST);
 
-        JsonNode data = getDobongCulturalHeritage();
+        ObjectNode item = heritageCatalog.current().find(id)
+                .orElseThrow(() -> BusinessException.of(StatusCode.RESOURCE_NOT_FOUND));
         Map<String, String> descOverrideMap = getHeritageDescMap();
 
-        for (JsonNode item : data) {
-            if (id.equals(safeText(item, "ID"))) {
-                String desc = descOverrideMap.get(id); // 1) id로 1차 시도
-                if (desc == null || desc.isBlank()) {
-                    // 2) 동일 아이템으로 다시 가능한 서명들 생성해 매칭
-                    String name    = safeText(item, "SHD_NM");
-                    String addr    = firstNonBlank(safeText(item, "CO_F2"), safeText(item, "SCD_JIBUN_ADDR"));
-                    String number  = safeText(item, "NUMBER");
-
-                    String k1 = stableId(name, addr, number); // 현재 방식
-                    String k2 = stableId(name, addr, "");      // 번호 없이
-                    String k3 = stableId(name, "", number);    // 주소 없이
-
-                    desc = firstNonBlank(descOverrideMap.get(k1), descOverrideMap.get(k2), descOverrideMap.get(k3));
-                    log.info("[Heritage] id={} descById?={}, fallbackHit?={}",
-                            id, descOverrideMap.containsKey(id), desc != null);
-                }
-                if (desc != null && desc.isBlank()) desc = null;
-
-                return HeritageDetailDto.builder()
-                        .id(safeText(item, "ID"))
-                        .name(safeText(item, "SHD_NM"))
-                        .nameHanja(safeText(item, "SHD_NM_HANJA"))
-                        .address(firstNonBlank(safeText(item, "CO_F2"), safeText(item, "SCD_JIBUN_ADDR")))
-                        .designationNo(firstNonBlank(safeText(item, "NUMBER"), safeText(item, "VA_F2")))
-                        .designationDate(firstNonBlank(normalizeDate(safeText(item, "REG_DT")), normalizeDate(safeText(item, "VA_F3"))))
-                        .tel(safeText(item, "CO_F3"))
-                        .description(desc) // ← 여기!
-                        .imageUrl(firstNonBlank(safeText(item, "IMAGE_URL"), "https://your.cdn/static/placeholder.png"))
-                        .lat(safeDouble(item, "LATITUDE"))
-                        .lng(safeDouble(item, "LONGITUDE"))
-                        .build();
-            }
-        }
-        throw BusinessException.of(StatusCode.RESOURCE_NOT_FOUND);
-    }
-
+        String desc = descOverrideMap.get(id); // 1) id로 1차 시도
+        if (desc == null || desc.isBlank()) {
+            // 2) 동일 아이템으로 다시 가능한 서명들 생성해 매칭
+            String name    = safeText(item, "SHD_NM");
+            String addr    = firstNonBlank(safeText(item, "CO_F2"), safeText(item, "SCD_JIBUN_ADDR"));
+            String number  = safeText(item, "NUMBER");
 
+            String k1 = HeritageCatalog.stableId(name, addr, number); // 현재 방식
+            String k2 = HeritageCatalog.stableId(name, addr, "");      // 번호 없이
+            String k3 = HeritageCatalog.stableId(name, "", number);    // 주소 없이
 
-    /** 도봉 문화유산(구청 오픈API) 목록 + IMAGE_URL/ID 주입 */
-    public JsonNode getDobongCulturalHeritage() {
-        final String response;
-        try {
-            response = dobongOpenApiClient.requestDobongData();
-        } catch (Exception ex) {
-            log.error("[DobongOpenAPI] API call failed", ex);
-            throw BusinessException.of(StatusCode.DOBONG_OPENAPI_FAILED);
-        }
-
-        if (response == null || response.isBlank()) {
-            throw BusinessException.of(StatusCode.DOBONG_OPENAPI_BAD_RESPONSE);
+            desc = firstNonBlank(descOverrideMap.get(k1), descOverrideMap.get(k2), descOverrideMap.get(k3));
+            log.info("[Heritage] id={} descById?={}, fallbackHit?={}",
+                    id, descOverrideMap.containsKey(id), desc != null);
         }
+        if (desc != null && desc.isBlank()) desc = null;
+
+        return HeritageDetailDto.builder()
+                .id(safeText(item, "ID"))
+                .name(safeText(item, "SHD_NM"))
+                .nameHanja(safeText(item, "SHD_NM_HANJA"))
+                .address(firstNonBlank(safeText(item, "CO_F2"), safeText(item, "SCD_JIBUN_ADDR")))
+                .designationNo(firstNonBlank(safeText(item, "NUMBER"), safeText(item, "VA_F2")))
+                .designationDate(firstNonBlank(normalizeDate(safeText(item, "REG_DT")), normalizeDate(safeText(item, "VA_F3"))))
+                .tel(safeText(item, "CO_F3"))
+                .description(desc) // ← 여기!
+                .imageUrl(firstNonBlank(safeText(item, "IMAGE_URL"), HeritageCatalog.PLACEHOLDER_IMAGE))
+                .lat(safeDouble(item, "LATITUDE"))
+                .lng(safeDouble(item, "LONGITUDE"))
+                .build();
+    }
 
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode outer = mapper.readTree(response);
-
-            JsonNode dataNode = outer.get("CONT_DATA_ROW");
-            if (dataNode == null || !dataNode.isArray()) {
-                throw BusinessException.of(StatusCode.DOBONG_OPENAPI_BAD_RESPONSE);
-            }
-
-            // Google Places 사진 + 안정적 ID 주입
-            for (JsonNode item : dataNode) {
-                String name = safeText(item, "SHD_NM");
-                String addr = firstNonBlank(safeText(item, "CO_F2"), safeText(item, "SCD_JIBUN_ADDR"));
-                Double lat = safeDouble(item, "LATITUDE");
-                Double lng = safeDouble(item, "LONGITUDE");
-                String query = (name + " " + (addr == null ? "" : addr)).trim();
-
-                String img = "https://your.cdn/static/placeholder.png";
-                if (!query.isBlank()) {
-                    try {
-                        Optional<String> photoUrl = placesClient.searchFirstPhotoUrlByText(query, lat, lng, 800);
-                        if (photoUrl.isPresent() && !photoUrl.get().isBlank()) {
-                            img = photoUrl.get();
-                        }
-                    } catch (Exception photoEx) {
-                        log.warn("[DobongOpenAPI] Places photo fetch failed for '{}'", query, photoEx);
-                    }
-                }
-
-                if (item.isObject()) {
-                    ObjectNode o = (ObjectNode) item;
-                    o.put("IMAGE_URL", img);
-                    // 이름+주소(+번호)로 안정적 ID
-                    String computedId = stableId(name, addr, safeText(item, "NUMBER"));
-                    o.put("ID", computedId);
-                }
-            }
 
-            return dataNode;
 
-        } catch (BusinessException be) {
-            throw be;
-        } catch (Exception ex) {
-            log.error("[DobongOpenAPI] JSON parse failed", ex);
-            throw BusinessException.of(StatusCode.DOBONG_OPENAPI_BAD_RESPONSE);
-        }
+    /** 도봉 문화유산(구청 오픈API) 목록 + IMAGE_URL/ID 주입 — 카탈로그 스냅샷(읽기 전용) */
+    public JsonNode getDobongCulturalHeritage() {
+        return heritageCatalog.current().items();
     }
 
 
@@ -289,37 +177,41 @@ public class MainService {
 
     /** 도봉 행사 이미지들만 */
     public List<EventImageDto> getDobongEventImages(EventSearchRequest req) {
-        List<EventDto> events = getDobongToday(req); // 이미 도봉 + 날짜 필터링됨
-        return events.stream()
-                .filter(e -> e.getMainImg() != null && !e.getMainImg().isBlank())
-                .map(e -> EventImageDto.builder()
-                        .id(stableEventId(e))      // ★ id 추가
-                        .imageUrl(e.getMainImg())  // ★ 이미지 URL
-                        .build())
-                .toList();
+        var snap = eventSnapshotStore.current(); // 이미 도봉 필터링 + ID 계산됨
+        List<EventImageDto> out = new ArrayList<>();
+        for (int i : snap.activeIndexes(targetDate(req))) {
+            EventDto e = snap.events().get(i);
+            if (e.getMainImg() == null || e.getMainImg().isBlank()) continue;
+            out.add(EventImageDto.builder()
+                    .id(snap.ids().get(i))     // ★ id 추가
+                    .imageUrl(e.getMainImg())  // ★ 이미지 URL
+                    .build());
+        }
+        return out;
     }
 
 
     /** 도봉 행사 리스트(이름 + 날짜) */
     public List<EventListItemDto> listDobongEvents(EventSearchRequest req) {
-        List<EventDto> events = getDobongToday(req);
-        return events.stream()
-                .map(e -> EventListItemDto.builder()
-                        .id(stableEventId(e))
-                        .title(e.getTitle())
-                        .dateText(buildDateText(e.getDate(), e.getStartDate(), e.getEndDate()))
-                        .build())
-                .toList();
+        var snap = eventSnapshotStore.current();
+        List<EventListItemDto> out = new ArrayList<>();
+        for (int i : snap.activeIndexes(targetDate(req))) {
+            EventDto e = snap.events().get(i);
+            out.add(EventListItemDto.builder()
+                    .id(snap.ids().get(i))
+                    .title(e.getTitle())
+                    .dateText(buildDateText(e.getDate(), e.getStartDate(), e.getEndDate()))
+                    .build());
+        }
+        return out;
     }
 
-    /** 도봉 행사 상세: EventDto 그대로 반환 */
-    public EventDto getDobongEventDetailRaw(String id, EventSearchRequest req) {
+    /** 도봉 행사 상세: EventDto 그대로 반환 (ID 해시 인덱스, 날짜 무관) */
+    public EventDto getDobongEventDetailRaw(String id) {
         if (id == null || id.isBlank()) {
             throw BusinessException.of(StatusCode.INVALID_REQUEST);
         }
-        return getDobongToday(req).stream()
-                .filter(e -> stableEventId(e).equals(id))
-                .findFirst()
+        return eventSnapshotStore.current().find(id)
                 .orElseThrow(() -> BusinessException.of(StatusCode.RESOURCE_NOT_FOUND));
     }
 
@@ -332,55 +224,46 @@ public class MainService {
         JsonNode data = getDobongCulturalHeritage(); // IMAGE_URL, ID 주입 완료
         List<HeritageListItemDto> list = new ArrayList<>();
         for (JsonNode item : data) {
-            list.add(HeritageListItemDto.builder()
-                    .id(safeText(item, "ID"))                 // 재계산 대신 주입된 ID 사용
-                    .name(safeText(item, "SHD_NM"))
-                    .imageUrl(safeText(item, "IMAGE_URL"))
-                    .build());
+            list.add(toHeritageListItem(item, null));
         }
         return list;
     }
 
+    /**
+     * 문화유산 목록 (사용자 위치 기준 가까운 순)
+     * - 좌표 있는 항목: 격자 색인 최근접 순 + 거리(km, 소수점 1자리)
+     * - 좌표 없는 항목: 원래 순서대로 뒤에 붙임
+     */
+    public List<HeritageListItemDto> listDobongHeritage(Double userLat, Double userLon) {
+        if (userLat == null || userLon == null) return listDobongHeritage();
 
+        HeritageCatalog.Geo geo = heritageCatalog.geo();
+        List<HeritageListItemDto> list = new ArrayList<>();
+        Set<String> placed = new HashSet<>();
+        for (int i : geo.index().nearest(userLat, userLon, geo.index().size())) {
+            double distance = calculateDistance(userLat, userLon, geo.index().lat(i), geo.index().lon(i));
+            HeritageListItemDto dto = toHeritageListItem(geo.items().get(i), Math.round(distance * 10.0) / 10.0);
+            placed.add(dto.getId());
+            list.add(dto);
+        }
+        for (JsonNode item : geo.source().items()) {
+            if (!placed.contains(safeText(item, "ID"))) list.add(toHeritageListItem(item, null));
+        }
+        return list;
+    }
 
-    // ───────────────────────── private helpers ─────────────────────────
-
-    private boolean isDobong(EventDto e) {
-        String gu = Optional.ofNullable(e.getGuName()).orElse("").trim();
-        if ("도봉구".equals(gu)) return true;
-        // 보조: 장소 텍스트로 판정
-        String place = Optional.ofNullable(e.getPlace()).orElse("");
-        return place.contains("도봉구") || place.contains("도봉");
+    private HeritageListItemDto toHeritageListItem(JsonNode item, Double distance) {
+        return HeritageListItemDto.builder()
+                .id(safeText(item, "ID"))                 // 재계산 대신 주입된 ID 사용
+                .name(safeText(item, "SHD_NM"))
+                .imageUrl(safeText(item, "IMAGE_URL"))
+                .distance(distance)
+                .build();
     }
 
-    private boolean isTodayIncluded(EventDto e, LocalDate today) {
-        LocalDate d = parseDateLoose(e.getDate());
-        if (d != null && d.equals(today)) return true;
 
-        LocalDate s = parseDateLoose(e.getStartDate());
-        LocalDate t = parseDateLoose(e.getEndDate());
-        if (s == null && t == null) return false;
-        if (s == null) s = today;
-        if (t == null) t = today;
-        return !today.isBefore(s) && !today.isAfter(t);
-    }
 
-    private LocalDate parseDateLoose(String s) {
-        if (s == null || s.isBlank()) return null;
-        s = s.trim();
-        // "2025-08-11 00:00:00" or "2025-08-11T00:00:00"
-        if (s.length() > 10 && (s.charAt(10) == ' ' || s.charAt(10) == 'T')) {
-            s = s.substring(0, 10);
-        }
-        // 8자리 숫자 → yyyyMMdd
-        if (s.matches("\\d{8}")) {
-            return LocalDate.parse(s, DateTimeFormatter.ofPattern("yyyyMMdd"));
-        }
-        // 점(.) → 하이픈(-)
-        s = s.replace('.', '-');
-        try { return LocalDate.parse(s, F); }
-        catch (Exception ex) { return null; }
-    }
+    // ───────────────────────── private helpers ─────────────────────────
 
     /** 날짜 문자열을 yyyy-MM-dd로 정규화(모르면 원문 유지) */
     private String normalizeDate(String s) {
@@ -409,28 +292,6 @@ public class MainService {
         return ""; // 없을 수도 있음
     }
 
-    /** 행사 목록에서 안정적 상세 ID 생성 */
-    private String stableEventId(EventDto e) {
-        String key = String.join("|",
-                nullToEmpty(e.getTitle()),
-                nullToEmpty(e.getDate()),
-                nullToEmpty(e.getStartDate()),
-                nullToEmpty(e.getEndDate()),
-                nullToEmpty(e.getPlace())
-        ).toLowerCase().trim();
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] h = md.digest(key.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < 9; i++) sb.append(String.format("%02x", h[i])); // 18 hex
-            return sb.toString();
-        } catch (Exception ex) {
-            return String.valueOf(key.hashCode());
-        }
-    }
-
-    private String nullToEmpty(String s){ return (s==null)? "" : s; }
-
     private String safeText(JsonNode n, String field) {
         JsonNode v = n.get(field);
         return (v == null || v.isNull()) ? "" : v.asText("");
@@ -447,98 +308,55 @@ public class MainService {
         try { return Double.parseDouble(s); } catch (Exception ignored) { return null; }
     }
 
-    /** 문화유산용 안정적 ID 생성(이름+주소+번호) */
-    private String stableId(String name, String address, String numberOrEmpty) {
-        String key = (Optional.ofNullable(name).orElse("").trim() + "|" +
-                Optional.ofNullable(address).orElse("").trim() + "|" +
-                Optional.ofNullable(numberOrEmpty).orElse("").trim()
-        ).toLowerCase();
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] h = md.digest(key.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < 9; i++) sb.append(String.format("%02x", h[i])); // 18 hex
-            return sb.toString();
-        } catch (Exception e) {
-            return String.valueOf(key.hashCode());
-        }
-    }
-
-
-
-
-    // 랜덤 장소 반환하는 로직
+    // 랜덤 장소 반환하는 로직 (HotPlaceStore 스냅샷에서 선택 → 응답 DTO 외 할당 없음)
     public TopPlaceDto getRandomPlaceFromJson(double userLat, double userLon) {
-        List<TopPlaceDto> places = new ArrayList<>();
-
-        try {
-            JsonNode rootNode = objectMapper.readTree(resource.getInputStream());
-            JsonNode dataNode = rootNode.path("data");
-
-            if (dataNode.isArray()) {
-                for (JsonNode node : dataNode) {
-                    TopPlaceDto place = new TopPlaceDto();
-
-                    // [수정] JSON 파일의 다른 정보도 DTO에 채워넣어야 합니다.
-                    // (JSON 파일에 있는 실제 키 이름으로 변경해야 합니다)
-                    place.setPlaceId(node.path("placeId").asText(null)); // 예: JSON 키가 "placeId"인 경우
-                    place.setName(node.path("name").asText(null));       // 예: JSON 키가 "name"인 경우
-                    place.setAddress(node.path("address").asText(null)); // 예: JSON 키가 "address"인 경우
-                    place.setImageUrl(node.path("imageUrl").asText(null)); // 예: JSON 키가 "imageUrl"인 경우
-                    place.setPhone(node.path("phone").asText(null));     // 예: JSON 키가 "phone"인 경우
-
-                    // 기존 위도/경도 설정
-                    place.setLatitude(node.path("latitude").asDouble());
-                    place.setLongitude(node.path("longitude").asDouble());
-
-                    places.add(place);
-                }
-            }
-
-            if (places.isEmpty()) {
-                throw new RuntimeException("No places found in JSON file");
-            }
-
-            // 1. 랜덤 선택
-            Random random = new Random();
-            int index = random.nextInt(places.size());
-            TopPlaceDto randomPlace = places.get(index);
-
-            // 2. [수정] 거리 계산 (calculateDistance가 '미터'를 반환한다고 가정)
-            double distanceInMeters = calculateDistance(
-                    userLat, userLon,
-                    randomPlace.getLatitude(), randomPlace.getLongitude()
-            );
-
-            // 3. [수정] 미터 단위로 소수점 1자리까지 반올림 (예: 6469.5m)
-            distanceInMeters = Math.round(distanceInMeters * 10.0) / 10.0;
-
-            // 4. [수정] 1000을 곱하는 로직을 제거하고, 계산된 미터 값을 바로 설정
-            randomPlace.setDistance(distanceInMeters);
+        return getRandomPlaceFromJson(userLat, userLon, null, false);
+    }
 
-            return randomPlace;
+    /**
+     * 랜덤 장소 (반경/거리 가중 선택)
+     * - radiusKm: 이 반경 안에서만 선택 (없으면 전체), 반경 안에 없으면 가장 가까운 장소
+     * - weighted: 가까울수록 뽑힐 확률 ↑
+     */
+    public TopPlaceDto getRandomPlaceFromJson(double userLat, double userLon, Double radiusKm, boolean weighted) {
+        HotPlaceStore.Snapshot hot = hotPlaceStore.current();
+        if (hot.size() == 0) {
+            throw BusinessException.of(StatusCode.INTERNAL_SERVER_ERROR);
+        }
+        if (radiusKm != null && radiusKm <= 0) {
+            throw BusinessException.of(StatusCode.INVALID_REQUEST);
+        }
 
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading JSON file", e);
+        // 1. 랜덤 선택 (반경/가중치 없으면 전체 균등)
+        int i;
+        if (radiusKm == null && !weighted) {
+            i = ThreadLocalRandom.current().nextInt(hot.size());
+        } else {
+            double radiusM = (radiusKm == null) ? Double.POSITIVE_INFINITY : radiusKm * 1000.0;
+            i = hot.geo().sample(userLat, userLon, radiusM, weighted, ThreadLocalRandom.current());
+            if (i < 0) i = hot.geo().nearest(userLat, userLon);
         }
+
+        // 2. 거리 계산 (km, 소수점 1자리)
+        double distance = calculateDistance(userLat, userLon, hot.lat(i), hot.lon(i));
+        distance = Math.round(distance * 10.0) / 10.0;
+
+        TopPlaceDto randomPlace = new TopPlaceDto();
+        randomPlace.setPlaceId(hot.placeId(i));
+        randomPlace.setName(hot.name(i));
+        randomPlace.setAddress(hot.address(i));
+        randomPlace.setImageUrl(hot.imageUrl(i));
+        randomPlace.setPhone(hot.phone(i));
+        randomPlace.setLatitude(hot.lat(i));
+        randomPlace.setLongitude(hot.lon(i));
+        randomPlace.setDistance(distance);
+        return randomPlace;
     }
 
     /**
-     * [변경] 두 지점 간의 거리를 킬로미터(km) 단위로 계산합니다.
+     * 두 지점 간의 거리를 킬로미터(km) 단위로 계산합니다. (GeoUtils 대원 거리)
      */
     private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        // [변경] R = 6371 (km)
-        final double R = 6371.0; // 지구 반지름 (km)
-
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return R * c; // 킬로미터(km) 단위 거리
+        return GeoUtils.distanceMeters(lat1, lon1, lat2, lon2) / 1000.0;
     }
 }
@@ -0,0 +1,72 @@
+package com.dobongzip.dobong.domain.map.cache;
+
+import java.util.*;
+
+/**
+ * Google Places 장소 필드 묶음 — PlaceRecordStore 가 묶음 단위로 보유 여부/조회 시각을 관리
+ * - 필드마스크는 필요한 묶음의 경로만 이어 붙여 만듦 → 이미 가진 필드는 다시 요청하지 않음
+ * - 묶음끼리 최상위 필드명이 겹치지 않아야 함 (병합 시 묶음 단위로 통째로 교체)
+ */
+public enum PlaceFieldGroup {
+    /** 카드/상세 공통 (검색 응답에도 모두 포함 → 검색 결과로 미리 채워짐) */
+    SUMMARY(PlacesCacheTier.DETAIL,
+            "displayName",
+            "formattedAddress",
+            "location",
+            "priceLevel",
+            "photos",
+            "currentOpeningHours.weekdayDescriptions",
+            "editorialSummary",
+            "generativeSummary.overview",
+            "generativeSummary.description",
+            "areaSummary",
+            "addressDescriptor"),
+    /** 전화번호 (상세에만 필요) */
+    CONTACT(PlacesCacheTier.DETAIL,
+            "internationalPhoneNumber",
+            "nationalPhoneNumber"),
+    /** 평점 */
+    RATING(PlacesCacheTier.DETAIL,
+            "rating",
+            "userRatingCount"),
+    /** 리뷰 본문 */
+    REVIEWS(PlacesCacheTier.REVIEWS,
+            "reviews");
+
+    /** 상세 화면 */
+    public static final Set<PlaceFieldGroup> DETAIL = Collections.unmodifiableSet(EnumSet.of(SUMMARY, CONTACT, RATING));
+    /** 리뷰 목록 */
+    public static final Set<PlaceFieldGroup> REVIEW_LIST = Collections.unmodifiableSet(EnumSet.of(RATING, REVIEWS));
+
+    private final PlacesCacheTier tier;
+    private final List<String> paths;
+    private final Set<String> topLevelFields;
+
+    PlaceFieldGroup(PlacesCacheTier tier, String... paths) {
+        this.tier = tier;
+        this.paths = List.of(paths);
+        Set<String> top = new LinkedHashSet<>();
+        for (String p : paths) {
+            int dot = p.indexOf('.');
+            top.add(dot < 0 ? p : p.substring(0, dot));
+        }
+        this.topLevelFields = Collections.unmodifiableSet(top);
+    }
+
+    /** TTL 을 따르는 캐시 구간 */
+    public PlacesCacheTier tier() { return tier; }
+
+    public Set<String> topLevelFields() { return topLevelFields; }
+
+    public String key() { return name().toLowerCase(); }
+
+    /** 장소 상세 요청용 필드마스크 (id 포함) */
+    public static String fieldMask(Collection<PlaceFieldGroup> groups) {
+        StringJoiner mask = new StringJoiner(",");
+        mask.add("id");
+        for (PlaceFieldGroup g : values()) {
+            if (groups.contains(g)) g.paths.forEach(mask::add);
+        }
+        return mask.toString();
+    }
+}
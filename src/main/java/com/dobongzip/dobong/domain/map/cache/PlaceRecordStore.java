@@ -0,0 +1,425 @@
+package com.dobongzip.dobong.domain.map.cache;
+
+import com.dobongzip.dobong.domain.map.dto.response.PlacesV1PlaceDetailsResponse;
+import com.dobongzip.dobong.global.http.CallPriority;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 장소별 단일 레코드 캐시 (필드 묶음 단위 병합)
+ * - 한 장소의 상세/리뷰/좋아요 스냅샷 조회가 각자 다른 필드마스크로 Google 을 부르지 않도록
+ *   장소마다 레코드 하나에 필드를 모아 두고, 묶음(PlaceFieldGroup)별 조회 시각을 함께 보관
+ * - 요청한 묶음 중 없는(또는 hard TTL 이 지난) 묶음만 필드마스크로 요청해 병합
+ *   이때 soft TTL 이 지난 묶음도 같은 호출에 끼워 갱신
+ * - 모두 있으면 즉시 응답, soft TTL 이 지난 묶음만 백그라운드 갱신 (stale-while-revalidate)
+ * - 검색 결과(searchText)로 SUMMARY/RATING 을 미리 채움 → 목록에서 들어온 상세는 CONTACT 만 요청
+ * - L1: Caffeine, L2: Redis (PlacesResponseCache 와 같은 설정/장애 시 건너뜀)
+ * - 동기(get)/비동기(getAsync) 조회가 같은 레코드와 진행 중 요청을 공유
+ *   단, 진행 중 요청은 우선순위(CallPriority)별로 따로 — background 호출(호출량 예비분 없음)의
+ *   PLACES_RATE_LIMITED 가 합류한 사용자 요청에 전달되지 않도록
+ * - peek: 외부 호출을 기다리지 않는 조회 (없으면 빈 결과 + 백그라운드로 채움)
+ * - 지표: cache.gets (cache=places.record), places.record{result=hit|partial|miss},
+ *         places.record.fetched{group}, places.record.stale.served{group}, places.record.refresh{result}
+ */
+@Slf4j
+@Component
+public class PlaceRecordStore {
+
+    private static final String REDIS_PREFIX = "places:v1:record:";
+
+    private final StringRedisTemplate redis;
+    private final PlacesCacheProperties props;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SingleFlight<String, Record> flights = new SingleFlight<>();
+    private final Cache<String, Record> l1;
+
+    private final Counter hits;
+    private final Counter partials;
+    private final Counter misses;
+    private final Map<PlaceFieldGroup, Counter> fetched = new EnumMap<>(PlaceFieldGroup.class);
+    private final Map<PlaceFieldGroup, Counter> staleServed = new EnumMap<>(PlaceFieldGroup.class);
+    private final Counter refreshOk;
+    private final Counter refreshFailed;
+
+    /** 백그라운드 갱신 — 같은 키는 한 번만 대기열에, 대기열이 차면 버림(다음 요청이 다시 시도) */
+    private final ExecutorService refresher;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 장소 레코드 (불변 — 병합 시 복사본을 만들어 교체)
+     * - fields: Places 응답 형태의 JSON (id + 보유한 묶음의 최상위 필드)
+     * - fetchedAt: 묶음별 원본 조회 시각
+     */
+    static final class Record {
+        final ObjectNode fields;
+        final Map<PlaceFieldGroup, Long> fetchedAt;
+        volatile PlacesV1PlaceDetailsResponse view;
+
+        Record(ObjectNode fields, Map<PlaceFieldGroup, Long> fetchedAt) {
+            this.fields = fields;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+
+    public PlaceRecordStore(StringRedisTemplate redis, PlacesCacheProperties props, MeterRegistry registry) {
+        this.redis = redis;
+        this.props = props;
+
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(props.getL1MaxSize())
+                .expireAfter(new LongestRemainingTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, l1, "places.record");
+
+        this.hits = resultCounter(registry, "hit");
+        this.partials = resultCounter(registry, "partial");
+        this.misses = resultCounter(registry, "miss");
+        for (PlaceFieldGroup g : PlaceFieldGroup.values()) {
+            fetched.put(g, Counter.builder("places.record.fetched").tag("group", g.key()).register(registry));
+            staleServed.put(g, Counter.builder("places.record.stale.served").tag("group", g.key()).register(registry));
+        }
+        this.refreshOk = Counter.builder("places.record.refresh").tag("result", "success").register(registry);
+        this.refreshFailed = Counter.builder("places.record.refresh").tag("result", "failure").register(registry);
+
+        AtomicInteger seq = new AtomicInteger();
+        int threads = Math.max(1, props.getRefreshThreads());
+        this.refresher = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256),
+                r -> {
+                    Thread t = new Thread(r, "place-record-refresh-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * 장소 조회 — 필요한 묶음만 보장
+     * @param fetcher 필드마스크 → Places 상세 응답(JSON). null 이면 저장하지 않음
+     * @return 레코드 전체를 상세 응답 형태로 (요청하지 않은 묶음의 필드가 함께 올 수 있음)
+     */
+    public PlacesV1PlaceDetailsResponse get(String key, Set<PlaceFieldGroup> needed,
+                                            Function<String, JsonNode> fetcher) {
+        Record rec = lookup(key);
+        Plan plan = plan(rec, needed);
+        if (plan.request() == null) {
+            if (!plan.stale().isEmpty()) {
+                countStaleServed(plan.stale());
+                refreshInBackground(key, plan.stale(), fetcher);
+            }
+            return view(rec);
+        }
+
+        Record merged = flights.execute(flightKey(key, plan.request(), CallPriority.isBackground()),
+                () -> fetchAndMerge(key, plan.request(), fetcher));
+        return view(merged);
+    }
+
+    /**
+     * 비동기 버전 — 없는 묶음은 fetcher 의 Mono 를 구독해 채움 (기다리는 동안 스레드를 잡지 않음)
+     * - Redis(L2) 읽기/쓰기는 블로킹이므로 boundedElastic 에서 (이벤트 루프 스레드를 막지 않도록)
+     * - 백그라운드 갱신은 갱신 전용 스레드에서 block
+     */
+    public Mono<PlacesV1PlaceDetailsResponse> getAsync(String key, Set<PlaceFieldGroup> needed,
+                                                       Function<String, Mono<JsonNode>> fetcher) {
+        return Mono.deferContextual(ctx -> {
+            Record cached = l1.getIfPresent(key);
+            if (cached != null || !props.isL2Enabled()) {
+                return resolveAsync(key, cached, needed, fetcher, CallPriority.isBackground(ctx));
+            }
+            return Mono.fromCallable(() -> Optional.ofNullable(lookup(key)))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(rec -> resolveAsync(key, rec.orElse(null), needed, fetcher, CallPriority.isBackground(ctx)));
+        });
+    }
+
+    private Mono<PlacesV1PlaceDetailsResponse> resolveAsync(String key, Record rec, Set<PlaceFieldGroup> needed,
+                                                            Function<String, Mono<JsonNode>> fetcher,
+                                                            boolean background) {
+        Plan plan = plan(rec, needed);
+        if (plan.request() == null) {
+            if (!plan.stale().isEmpty()) {
+                countStaleServed(plan.stale());
+                refreshInBackground(key, plan.stale(), mask -> fetcher.apply(mask).block());
+            }
+            return Mono.justOrEmpty(view(rec));
+        }
+
+        Set<PlaceFieldGroup> request = plan.request();
+        return flights.executeAsync(flightKey(key, request, background),
+                        () -> fetcher.apply(PlaceFieldGroup.fieldMask(request))
+                                .publishOn(Schedulers.boundedElastic()) // 병합 + Redis 쓰기
+                                .mapNotNull(res -> applyFetched(key, request, res)))
+                .map(this::view);
+    }
+
+    /** peek 결과 — value 는 요청한 묶음이 모두 있을 때만, fetchedAt 은 그중 가장 오래된 조회 시각 */
+    public record Cached(PlacesV1PlaceDetailsResponse value, Instant fetchedAt) {
+        static final Cached EMPTY = new Cached(null, null);
+    }
+
+    /**
+     * 외부 호출을 기다리지 않는 조회 (요청 스레드에서 Google 호출 없음)
+     * - 요청한 묶음이 모두 hard TTL 안에 있으면 바로 응답 (soft TTL 이 지났으면 백그라운드 갱신)
+     * - 없거나 hard TTL 이 지난 묶음이 있으면 빈 결과 + 백그라운드로 채움 → 다음 요청부터 적중
+     */
+    public Cached peek(String key, Set<PlaceFieldGroup> needed, Function<String, JsonNode> fetcher) {
+        Record rec = lookup(key);
+        Plan plan = plan(rec, needed);
+        if (plan.request() != null) {
+            refreshInBackground(key, plan.request(), fetcher);
+            return Cached.EMPTY;
+        }
+        if (!plan.stale().isEmpty()) {
+            countStaleServed(plan.stale());
+            refreshInBackground(key, plan.stale(), fetcher);
+        }
+
+        long oldest = Long.MAX_VALUE;
+        for (PlaceFieldGroup g : needed) oldest = Math.min(oldest, rec.fetchedAt.get(g));
+        return new Cached(view(rec), oldest == Long.MAX_VALUE ? null : Instant.ofEpochMilli(oldest));
+    }
+
+    /**
+     * 이미 받은 응답으로 묶음 채우기 (검색 결과 등)
+     * - value 는 해당 묶음의 필드를 빠짐없이 요청해 받은 값이어야 함 (없는 필드 = 값 없음으로 기록)
+     */
+    public void seed(String key, Set<PlaceFieldGroup> groups, Object value) {
+        if (key == null || value == null || groups.isEmpty()) return;
+        try {
+            merge(key, groups, objectMapper.valueToTree(value), System.currentTimeMillis());
+        } catch (Exception e) {
+            log.debug("[PlaceRecord] seed failed key={} | {}", key, e.toString());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // ───────────────────────── 내부 ─────────────────────────
+
+    /**
+     * 요청할 묶음 계산
+     * - request: 없는(또는 hard TTL 이 지난) 묶음 + 같은 호출에 끼울 soft TTL 지난 묶음. 모두 있으면 null
+     * - stale: 모두 있을 때 백그라운드로 갱신할 묶음
+     */
+    private record Plan(Set<PlaceFieldGroup> request, Set<PlaceFieldGroup> stale) {}
+
+    private Plan plan(Record rec, Set<PlaceFieldGroup> needed) {
+        long now = System.currentTimeMillis();
+        EnumSet<PlaceFieldGroup> missing = EnumSet.noneOf(PlaceFieldGroup.class);
+        EnumSet<PlaceFieldGroup> stale = EnumSet.noneOf(PlaceFieldGroup.class);
+        for (PlaceFieldGroup g : needed) {
+            Long at = (rec == null) ? null : rec.fetchedAt.get(g);
+            if (at == null || now - at >= props.ttlOf(g.tier()).toMillis()) missing.add(g);
+            else if (now - at >= props.softTtlOf(g.tier()).toMillis()) stale.add(g);
+        }
+
+        if (missing.isEmpty()) {
+            hits.increment();
+            return new Plan(null, stale);
+        }
+        (rec == null ? misses : partials).increment();
+        missing.addAll(stale);
+        return new Plan(missing, Set.of());
+    }
+
+    /** soft TTL 이 지난 묶음을 기존 값으로 응답한 횟수 (묶음별) */
+    private void countStaleServed(Set<PlaceFieldGroup> stale) {
+        for (PlaceFieldGroup g : stale) staleServed.get(g).increment();
+    }
+
+    private Record fetchAndMerge(String key, Set<PlaceFieldGroup> groups, Function<String, JsonNode> fetcher) {
+        return applyFetched(key, groups, fetcher.apply(PlaceFieldGroup.fieldMask(groups)));
+    }
+
+    private Record applyFetched(String key, Set<PlaceFieldGroup> groups, JsonNode res) {
+        if (res == null || !res.isObject()) return null;
+        groups.forEach(g -> fetched.get(g).increment());
+        return merge(key, groups, res, System.currentTimeMillis());
+    }
+
+    /** 기존 레코드에 묶음 단위로 덮어써 새 레코드로 교체 (L1 원자적 교체 + L2 기록) */
+    private Record merge(String key, Set<PlaceFieldGroup> groups, JsonNode src, long at) {
+        Record base = lookup(key);
+        Record merged = l1.asMap().compute(key, (k, cur) -> merged(cur != null ? cur : base, groups, src, at));
+        writeL2(key, merged);
+        return merged;
+    }
+
+    private Record merged(Record base, Set<PlaceFieldGroup> groups, JsonNode src, long at) {
+        long now = System.currentTimeMillis();
+        ObjectNode fields = (base == null) ? objectMapper.createObjectNode() : base.fields.deepCopy();
+        Map<PlaceFieldGroup, Long> fetchedAt = new EnumMap<>(PlaceFieldGroup.class);
+
+        if (base != null) {
+            // hard TTL 이 지난 묶음은 필드째 버림
+            base.fetchedAt.forEach((g, t) -> {
+                if (now - t < props.ttlOf(g.tier()).toMillis()) fetchedAt.put(g, t);
+                else g.topLevelFields().forEach(fields::remove);
+            });
+        }
+        for (PlaceFieldGroup g : groups) {
+            for (String name : g.topLevelFields()) {
+                JsonNode v = src.get(name);
+                if (v == null || v.isNull()) fields.remove(name);
+                else fields.set(name, v);
+            }
+            fetchedAt.put(g, at);
+        }
+        JsonNode id = src.get("id");
+        if (id != null && !id.isNull()) fields.set("id", id);
+
+        return new Record(fields, Collections.unmodifiableMap(fetchedAt));
+    }
+
+    private PlacesV1PlaceDetailsResponse view(Record rec) {
+        if (rec == null) return null;
+        PlacesV1PlaceDetailsResponse v = rec.view;
+        if (v == null) {
+            v = objectMapper.convertValue(rec.fields, PlacesV1PlaceDetailsResponse.class);
+            rec.view = v;
+        }
+        return v;
+    }
+
+    /** L1 → L2 순 조회 (L2 적중 시 L1 채움). 없으면 null */
+    private Record lookup(String key) {
+        Record r = l1.getIfPresent(key);
+        if (r != null) return r;
+
+        r = readL2(key);
+        if (r != null) l1.asMap().putIfAbsent(key, r);
+        return r;
+    }
+
+    private void refreshInBackground(String key, Set<PlaceFieldGroup> groups, Function<String, JsonNode> fetcher) {
+        String flightKey = flightKey(key, groups, true);
+        if (!refreshing.add(flightKey)) return;
+        try {
+            refresher.execute(() -> {
+                try {
+                    // 같은 묶음 요청이 동시에 오면 이 갱신 결과를 공유, 호출량이 빠듯하면 사용자 요청에 양보
+                    flights.execute(flightKey, () -> CallPriority.background(() -> fetchAndMerge(key, groups, fetcher)));
+                    refreshOk.increment();
+                } catch (Exception ex) {
+                    // 실패 → 기존 값을 hard TTL 까지 계속 응답
+                    refreshFailed.increment();
+                    log.warn("[PlaceRecord] background refresh failed key={} groups={} | {}", key, groups, ex.toString());
+                } finally {
+                    refreshing.remove(flightKey);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(flightKey);
+        }
+    }
+
+    /** 진행 중 요청 키 — 같은 장소/필드마스크라도 background 와 사용자 요청은 합치지 않음 */
+    private static String flightKey(String key, Set<PlaceFieldGroup> groups, boolean background) {
+        return key + "|" + PlaceFieldGroup.fieldMask(groups) + (background ? "|bg" : "");
+    }
+
+    /** 가장 오래 남은 묶음의 hard TTL (ms). 모두 지났으면 0 이하 */
+    private long remainingMillis(Record r) {
+        long now = System.currentTimeMillis();
+        long max = 0;
+        for (var e : r.fetchedAt.entrySet()) {
+            max = Math.max(max, e.getValue() + props.ttlOf(e.getKey().tier()).toMillis() - now);
+        }
+        return max;
+    }
+
+    // ───────────────────────── L2 (Redis) ─────────────────────────
+
+    private Record readL2(String key) {
+        if (!props.isL2Enabled()) return null;
+        try {
+            String json = redis.opsForValue().get(REDIS_PREFIX + key);
+            if (json == null) return null;
+
+            JsonNode node = objectMapper.readTree(json);
+            JsonNode fields = node.get("fields");
+            if (fields == null || !fields.isObject()) return null;
+
+            long now = System.currentTimeMillis();
+            Map<PlaceFieldGroup, Long> fetchedAt = new EnumMap<>(PlaceFieldGroup.class);
+            node.path("fetchedAt").fields().forEachRemaining(e -> {
+                PlaceFieldGroup g = groupOf(e.getKey());
+                long t = e.getValue().asLong(0);
+                if (g != null && now - t < props.ttlOf(g.tier()).toMillis()) fetchedAt.put(g, t);
+            });
+            if (fetchedAt.isEmpty()) return null;
+            return new Record((ObjectNode) fields, Collections.unmodifiableMap(fetchedAt));
+        } catch (Exception ex) {
+            log.debug("[PlaceRecord] L2 read failed key={} | {}", key, ex.toString());
+            return null;
+        }
+    }
+
+    private void writeL2(String key, Record r) {
+        if (!props.isL2Enabled() || r == null) return;
+        long ttlMillis = remainingMillis(r);
+        if (ttlMillis <= 0) return;
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.set("fields", r.fields);
+            ObjectNode at = node.putObject("fetchedAt");
+            r.fetchedAt.forEach((g, t) -> at.put(g.key(), t));
+            redis.opsForValue().set(REDIS_PREFIX + key, node.toString(), Duration.ofMillis(ttlMillis));
+        } catch (Exception ex) {
+            log.debug("[PlaceRecord] L2 write failed key={} | {}", key, ex.toString());
+        }
+    }
+
+    private static PlaceFieldGroup groupOf(String key) {
+        for (PlaceFieldGroup g : PlaceFieldGroup.values()) {
+            if (g.key().equals(key)) return g;
+        }
+        return null;
+    }
+
+    private static Counter resultCounter(MeterRegistry registry, String result) {
+        return Counter.builder("places.record").tag("result", result).register(registry);
+    }
+
+    /** 가장 오래 남은 묶음의 hard TTL 만큼 보관 */
+    private final class LongestRemainingTtl implements Expiry<String, Record> {
+        @Override
+        public long expireAfterCreate(String key, Record value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis(value)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Record value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Record value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
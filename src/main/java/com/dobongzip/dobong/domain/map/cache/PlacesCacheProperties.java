@@ -0,0 +1,51 @@
+package com.dobongzip.dobong.domain.map.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.places.cache")
+public class PlacesCacheProperties {
+    /** 구간별 L1(프로세스 내) 최대 항목 수 */
+    private long l1MaxSize = 5000;
+    /** Redis L2 사용 여부 */
+    private boolean l2Enabled = true;
+    /** 백그라운드 갱신 스레드 수 */
+    private int refreshThreads = 2;
+
+    // soft: 지나면 기존 값을 즉시 주고 백그라운드 갱신
+    private Duration searchSoftTtl = Duration.ofHours(1);
+    private Duration detailSoftTtl = Duration.ofHours(2);
+    private Duration reviewsSoftTtl = Duration.ofHours(1);
+    private Duration photoSoftTtl = Duration.ofDays(1);
+
+    // hard: 지나면 폐기 (L1/L2 보관 기간)
+    private Duration searchTtl = Duration.ofHours(6);
+    private Duration detailTtl = Duration.ofHours(24);
+    private Duration reviewsTtl = Duration.ofHours(6);
+    private Duration photoTtl = Duration.ofDays(7);
+
+    public Duration ttlOf(PlacesCacheTier tier) {
+        return switch (tier) {
+            case SEARCH -> searchTtl;
+            case DETAIL -> detailTtl;
+            case REVIEWS -> reviewsTtl;
+            case PHOTO -> photoTtl;
+        };
+    }
+
+    public Duration softTtlOf(PlacesCacheTier tier) {
+        return switch (tier) {
+            case SEARCH -> searchSoftTtl;
+            case DETAIL -> detailSoftTtl;
+            case REVIEWS -> reviewsSoftTtl;
+            case PHOTO -> photoSoftTtl;
+        };
+    }
+}
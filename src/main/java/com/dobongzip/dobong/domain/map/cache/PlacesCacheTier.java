@@ -0,0 +1,11 @@
+package com.dobongzip.dobong.domain.map.cache;
+
+/** Google Places 응답 캐시 구간 — 필드마스크 종류별로 TTL 을 따로 둔다 */
+public enum PlacesCacheTier {
+    SEARCH,   // places:searchText (카드 목록/자동완성)
+    DETAIL,   // 장소 레코드 SUMMARY/CONTACT/RATING 묶음 (PlaceRecordStore)
+    REVIEWS,  // 장소 레코드 REVIEWS 묶음 (PlaceRecordStore)
+    PHOTO;    // 텍스트 검색 → 첫 사진 URL
+
+    public String key() { return name().toLowerCase(); }
+}
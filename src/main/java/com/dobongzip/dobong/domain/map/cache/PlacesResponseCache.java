@@ -0,0 +1,310 @@
+package com.dobongzip.dobong.domain.map.cache;
+
+import com.dobongzip.dobong.global.http.CallPriority;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Google Places 응답 2단 캐시
+ * - L1: 구간(필드마스크)별 Caffeine, 크기 제한 + 구간별 TTL
+ * - L2: Redis(RedisConfig 의 StringRedisTemplate), 인스턴스 간 공유. 장애 시 조용히 건너뜀
+ * - 항목마다 원본 조회 시각을 함께 보관 → L2 에서 올라온 항목도 남은 TTL 만큼만 L1 에 머묾
+ * - soft TTL 이 지난 항목은 그대로 응답하고 백그라운드에서 갱신 (stale-while-revalidate), 갱신 실패 시 기존 값 유지
+ * - 적중/미스/축출 지표: cache.gets / cache.evictions (cache=places.{tier}), places.cache.l2
+ * - 오래된 값 응답/갱신 지표: places.cache.stale.served, places.cache.refresh
+ * - SEARCH/PHOTO 구간만 다룸 (장소 상세/리뷰는 PlaceRecordStore → places.record.* 지표)
+ */
+@Slf4j
+@Component
+public class PlacesResponseCache {
+
+    private static final String REDIS_PREFIX = "places:v1:";
+
+    /** 이 캐시가 다루는 구간 — DETAIL/REVIEWS 는 PlaceRecordStore 가 담당 */
+    static final Set<PlacesCacheTier> TIERS = Collections.unmodifiableSet(
+            EnumSet.of(PlacesCacheTier.SEARCH, PlacesCacheTier.PHOTO));
+
+    private final StringRedisTemplate redis;
+    private final PlacesCacheProperties props;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SingleFlight<String, Object> flights = new SingleFlight<>();
+
+    private final Map<PlacesCacheTier, Cache<String, Entry>> l1 = new EnumMap<>(PlacesCacheTier.class);
+    private final Map<PlacesCacheTier, Counter> l2Hits = new EnumMap<>(PlacesCacheTier.class);
+    private final Map<PlacesCacheTier, Counter> l2Misses = new EnumMap<>(PlacesCacheTier.class);
+    private final Map<PlacesCacheTier, Counter> l2Errors = new EnumMap<>(PlacesCacheTier.class);
+    private final Map<PlacesCacheTier, Counter> staleServed = new EnumMap<>(PlacesCacheTier.class);
+    private final Map<PlacesCacheTier, Counter> refreshOk = new EnumMap<>(PlacesCacheTier.class);
+    private final Map<PlacesCacheTier, Counter> refreshFailed = new EnumMap<>(PlacesCacheTier.class);
+
+    /** 백그라운드 갱신 — 같은 키는 한 번만 대기열에, 대기열이 차면 버림(다음 요청이 다시 시도) */
+    private final ExecutorService refresher;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /** 캐시 항목 — 값 + 원본(Google) 조회 시각 */
+    public record Entry(Object value, long fetchedAtMillis) {
+        public long ageMillis() { return System.currentTimeMillis() - fetchedAtMillis; }
+        public boolean isStale(Duration softTtl) { return ageMillis() >= softTtl.toMillis(); }
+    }
+
+    public PlacesResponseCache(StringRedisTemplate redis, PlacesCacheProperties props, MeterRegistry registry) {
+        this.redis = redis;
+        this.props = props;
+
+        for (PlacesCacheTier tier : TIERS) {
+            Cache<String, Entry> cache = Caffeine.newBuilder()
+                    .maximumSize(props.getL1MaxSize())
+                    .expireAfter(new RemainingTtl(props.ttlOf(tier).toNanos()))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(registry, cache, "places." + tier.key());
+            l1.put(tier, cache);
+
+            l2Hits.put(tier, l2Counter(registry, tier, "hit"));
+            l2Misses.put(tier, l2Counter(registry, tier, "miss"));
+            l2Errors.put(tier, l2Counter(registry, tier, "error"));
+
+            staleServed.put(tier, Counter.builder("places.cache.stale.served")
+                    .tag("tier", tier.key()).register(registry));
+            refreshOk.put(tier, refreshCounter(registry, tier, "success"));
+            refreshFailed.put(tier, refreshCounter(registry, tier, "failure"));
+        }
+
+        AtomicInteger seq = new AtomicInteger();
+        int threads = Math.max(1, props.getRefreshThreads());
+        this.refresher = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256),
+                r -> {
+                    Thread t = new Thread(r, "places-refresh-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * 캐시 우선 조회, 없으면 loader 호출 후 저장 (null 은 저장하지 않음)
+     * - 같은 키의 동시 미스는 single-flight 로 합쳐 외부 호출 1번만 (background 호출과 사용자 요청은 따로)
+     * - soft TTL 이 지난 항목은 즉시 응답 + 백그라운드 갱신
+     */
+    public <T> T get(PlacesCacheTier tier, String key, Class<T> type, Supplier<T> loader) {
+        Entry hit = lookup(tier, key, type);
+        if (hit != null) {
+            if (hit.isStale(props.softTtlOf(tier))) {
+                staleServed.get(tier).increment();
+                refreshInBackground(tier, key, loader);
+            }
+            return type.cast(hit.value());
+        }
+
+        Object loaded = flights.execute(flightKey(tier, key, CallPriority.isBackground()), () -> {
+            // 직전 호출이 막 채웠을 수 있으니 L1 재확인
+            Entry again = l1Of(tier).getIfPresent(key);
+            if (again != null) return again.value();
+
+            T v = loader.get();
+            if (v != null) put(tier, key, v);
+            return v;
+        });
+        return type.cast(loaded);
+    }
+
+    /**
+     * 비동기 버전 — 미스일 때 loader 의 Mono 를 구독해 채움 (기다리는 동안 스레드를 잡지 않음)
+     * - 적중/soft TTL 처리는 get 과 같음 (백그라운드 갱신은 갱신 전용 스레드에서 block)
+     * - L1 은 구독 스레드에서, Redis(L2) 읽기/쓰기는 boundedElastic 에서 (이벤트 루프 스레드를 막지 않도록)
+     */
+    public <T> Mono<T> getAsync(PlacesCacheTier tier, String key, Class<T> type, Supplier<Mono<T>> loader) {
+        return Mono.deferContextual(ctx -> {
+            boolean background = CallPriority.isBackground(ctx);
+            Entry cached = l1Of(tier).getIfPresent(key);
+            if (cached != null || !props.isL2Enabled()) {
+                return resolveAsync(tier, key, type, loader, cached, background);
+            }
+            return Mono.fromCallable(() -> Optional.ofNullable(lookup(tier, key, type)))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(hit -> resolveAsync(tier, key, type, loader, hit.orElse(null), background));
+        });
+    }
+
+    private <T> Mono<T> resolveAsync(PlacesCacheTier tier, String key, Class<T> type, Supplier<Mono<T>> loader,
+                                     Entry hit, boolean background) {
+        if (hit != null) {
+            if (hit.isStale(props.softTtlOf(tier))) {
+                staleServed.get(tier).increment();
+                refreshInBackground(tier, key, () -> loader.get().block());
+            }
+            return Mono.just(type.cast(hit.value()));
+        }
+
+        return flights.executeAsync(flightKey(tier, key, background), () -> {
+            Entry again = l1Of(tier).getIfPresent(key);
+            if (again != null) return Mono.just(again.value());
+
+            return loader.get()
+                    .publishOn(Schedulers.boundedElastic()) // Redis 쓰기
+                    .map(v -> {
+                        put(tier, key, v);
+                        return (Object) v;
+                    });
+        }).map(type::cast);
+    }
+
+    /** L1 → L2 순 조회 (L2 적중 시 L1 채움). 없으면 null */
+    public Entry lookup(PlacesCacheTier tier, String key, Class<?> type) {
+        Cache<String, Entry> cache = l1Of(tier);
+        Entry e = cache.getIfPresent(key);
+        if (e != null) return e;
+
+        e = readL2(tier, key, type);
+        if (e != null) cache.put(key, e);
+        return e;
+    }
+
+    public void put(PlacesCacheTier tier, String key, Object value) {
+        Entry e = new Entry(value, System.currentTimeMillis());
+        l1Of(tier).put(key, e);
+        writeL2(tier, key, e);
+    }
+
+    private void refreshInBackground(PlacesCacheTier tier, String key, Supplier<?> loader) {
+        String flightKey = flightKey(tier, key, true);
+        if (!refreshing.add(flightKey)) return;
+        try {
+            refresher.execute(() -> {
+                try {
+                    // 같은 키의 background 미스가 동시에 오면 이 갱신 결과를 공유 (사용자 요청은 합류하지 않음)
+                    flights.execute(flightKey, () -> {
+                        Object v = CallPriority.background(loader); // 호출량이 빠듯하면 사용자 요청에 양보
+                        if (v != null) put(tier, key, v);
+                        return v;
+                    });
+                    refreshOk.get(tier).increment();
+                } catch (Exception ex) {
+                    // 실패 → 기존(오래된) 값을 hard TTL 까지 계속 응답
+                    refreshFailed.get(tier).increment();
+                    log.warn("[PlacesCache] background refresh failed tier={} key={} | {}", tier, key, ex.toString());
+                } finally {
+                    refreshing.remove(flightKey);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(flightKey);
+        }
+    }
+
+    /** 진행 중 요청 키 — background 호출(호출량 예비분 없음)과 사용자 요청은 합치지 않음 */
+    private Cache<String, Entry> l1Of(PlacesCacheTier tier) {
+        Cache<String, Entry> cache = l1.get(tier);
+        if (cache == null) throw new IllegalArgumentException("PlacesResponseCache 가 다루지 않는 구간: " + tier);
+        return cache;
+    }
+
+    private static String flightKey(PlacesCacheTier tier, String key, boolean background) {
+        return tier.key() + ":" + key + (background ? ":bg" : "");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // ───────────────────────── L2 (Redis) ─────────────────────────
+
+    private Entry readL2(PlacesCacheTier tier, String key, Class<?> type) {
+        if (!props.isL2Enabled()) return null;
+        try {
+            String json = redis.opsForValue().get(redisKey(tier, key));
+            if (json == null) {
+                l2Misses.get(tier).increment();
+                return null;
+            }
+            JsonNode node = objectMapper.readTree(json);
+            Object value = objectMapper.treeToValue(node.get("value"), type);
+            long fetchedAt = node.path("fetchedAt").asLong(0);
+            if (value == null || System.currentTimeMillis() - fetchedAt >= props.ttlOf(tier).toMillis()) {
+                l2Misses.get(tier).increment();
+                return null;
+            }
+            l2Hits.get(tier).increment();
+            return new Entry(value, fetchedAt);
+        } catch (Exception ex) {
+            l2Errors.get(tier).increment();
+            log.debug("[PlacesCache] L2 read failed tier={} key={} | {}", tier, key, ex.toString());
+            return null;
+        }
+    }
+
+    private void writeL2(PlacesCacheTier tier, String key, Entry e) {
+        if (!props.isL2Enabled()) return;
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("fetchedAt", e.fetchedAtMillis());
+            node.set("value", objectMapper.valueToTree(e.value()));
+            redis.opsForValue().set(redisKey(tier, key), node.toString(), props.ttlOf(tier));
+        } catch (Exception ex) {
+            l2Errors.get(tier).increment();
+            log.debug("[PlacesCache] L2 write failed tier={} key={} | {}", tier, key, ex.toString());
+        }
+    }
+
+    private static String redisKey(PlacesCacheTier tier, String key) {
+        return REDIS_PREFIX + tier.key() + ":" + key;
+    }
+
+    private static Counter l2Counter(MeterRegistry registry, PlacesCacheTier tier, String result) {
+        return Counter.builder("places.cache.l2")
+                .tag("tier", tier.key())
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter refreshCounter(MeterRegistry registry, PlacesCacheTier tier, String result) {
+        return Counter.builder("places.cache.refresh")
+                .tag("tier", tier.key())
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /** 원본 조회 시각 기준 남은 TTL 만큼만 보관 */
+    private record RemainingTtl(long ttlNanos) implements Expiry<String, Entry> {
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            long ageNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.ageMillis()));
+            return Math.max(0, ttlNanos - ageNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.dobongzip.dobong.domain.map.cache;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출 합치기 (single-flight)
+ * - 먼저 들어온 호출만 loader 를 실행하고, 그 사이 들어온 호출은 같은 결과(또는 예외)를 공유
+ * - 완료 즉시 키를 비움 → 결과 보관은 하지 않음 (보관은 캐시의 몫)
+ * - 동기(execute)/비동기(executeAsync) 호출이 같은 진행 중 목록을 공유
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 호출 하나
+     * - waiters: 결과를 기다리는 참여자 수 (동기 참여자는 취소하지 않으므로 끝까지 남음)
+     * - 비동기 참여자가 모두 취소하면 0 → upstream 구독 해제, 이후 합류 불가
+     */
+    private static final class Flight<V> {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final AtomicInteger waiters = new AtomicInteger(1);
+        volatile Disposable upstream;
+
+        /** 참여 (이미 버려진 호출이면 false) */
+        boolean join() {
+            for (;;) {
+                int w = waiters.get();
+                if (w == 0) return false;
+                if (waiters.compareAndSet(w, w + 1)) return true;
+            }
+        }
+
+        /** 참여 취소 — 마지막 참여자면 true */
+        boolean leave() {
+            return waiters.decrementAndGet() == 0;
+        }
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        for (;;) {
+            Flight<V> mine = new Flight<>();
+            Flight<V> existing = inFlight.putIfAbsent(key, mine);
+            if (existing != null) {
+                if (existing.join()) return await(existing.future);
+                inFlight.remove(key, existing); // 버려진 호출 → 새로 시작
+                continue;
+            }
+
+            try {
+                V value = loader.get();
+                mine.future.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                mine.future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+    }
+
+    /**
+     * 비동기 버전 — 구독 시점에 합류 여부 결정, 기다리는 동안 스레드를 잡지 않음
+     * - loader 는 먼저 구독한 쪽의 Context 로 구독하지만, 특정 참여자에 묶이지 않음
+     *   → 먼저 구독한 쪽이 취소(타임아웃 등)해도 남은 참여자(동기 포함)는 결과를 그대로 받음
+     * - 참여자가 모두 취소한 경우에만 loader 구독을 해제
+     */
+    public Mono<V> executeAsync(K key, Supplier<Mono<V>> loader) {
+        return Mono.deferContextual(ctx -> {
+            for (;;) {
+                Flight<V> mine = new Flight<>();
+                Flight<V> existing = inFlight.putIfAbsent(key, mine);
+                if (existing != null) {
+                    if (existing.join()) return participate(key, existing);
+                    inFlight.remove(key, existing);
+                    continue;
+                }
+
+                Mono<V> source;
+                try {
+                    source = loader.get();
+                } catch (RuntimeException | Error e) {
+                    inFlight.remove(key, mine);
+                    mine.future.completeExceptionally(e);
+                    throw e;
+                }
+                mine.upstream = source.contextWrite(ctx).subscribe(
+                        v -> {
+                            inFlight.remove(key, mine);
+                            mine.future.complete(v);
+                        },
+                        e -> {
+                            inFlight.remove(key, mine);
+                            mine.future.completeExceptionally(e);
+                        },
+                        () -> {
+                            // 빈 결과 → null (값이 있었으면 이미 완료되어 무시됨)
+                            inFlight.remove(key, mine);
+                            mine.future.complete(null);
+                        });
+                return participate(key, mine);
+            }
+        });
+    }
+
+    /** 현재 진행 중인 키 수 */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<V> participate(K key, Flight<V> flight) {
+        return Mono.fromFuture(flight.future, true)
+                .doOnCancel(() -> {
+                    if (!flight.leave() || flight.future.isDone()) return;
+                    inFlight.remove(key, flight);
+                    Disposable upstream = flight.upstream;
+                    if (upstream != null) upstream.dispose();
+                    flight.future.cancel(false);
+                });
+    }
+
+    private V await(CompletableFuture<V> f) {
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw e;
+        }
+    }
+}
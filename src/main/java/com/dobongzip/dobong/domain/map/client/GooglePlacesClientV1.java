@@ -1,31 +1,68 @@
 package com.dobongzip.dobong.domain.map.client;
 
+import com.dobongzip.dobong.domain.map.cache.PlaceFieldGroup;
+import com.dobongzip.dobong.domain.map.cache.PlaceRecordStore;
+import com.dobongzip.dobong.domain.map.cache.PlacesCacheTier;
+import com.dobongzip.dobong.domain.map.cache.PlacesResponseCache;
 import com.dobongzip.dobong.domain.map.dto.response.PlacesV1PlaceDetailsResponse;
 import com.dobongzip.dobong.domain.map.dto.response.PlacesV1SearchTextResponse;
+import com.dobongzip.dobong.global.exception.BusinessException;
+import com.dobongzip.dobong.global.http.Upstream;
+import com.dobongzip.dobong.global.http.UpstreamGuard;
+import com.dobongzip.dobong.global.response.StatusCode;
 import com.fasterxml.jackson.databind.JsonNode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.Set;
+
+/**
+ * Google Places API (v1)
+ * - 동기(RestTemplate) API 와 같은 이름 + Async 의 비동기(WebClient, Mono) API 를 함께 제공
+ * - 두 API 는 같은 캐시 키/장소 레코드/호출량 예산/서킷 브레이커를 공유
+ * - 비동기 API 는 응답을 기다리는 동안 스레드를 잡지 않음 → 여러 호출을 묶는 쪽(목록 보강 등)에서 사용
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GooglePlacesClientV1 {
 
-    private static final String BASE = "https://places.googleapis.com/v1";
-
-    private final RestTemplate restTemplate;
+    private final RestTemplate googleRestTemplate;
+    private final WebClient googleWebClient;
     private final GooglePlacesProperties props;
+    private final PlacesResponseCache cache;
+    private final PlaceRecordStore records;
+    private final UpstreamGuard guard;
+    private final PlacesQuotaBudget budget;
+
+    public GooglePlacesClientV1(@Qualifier("googleRestTemplate") RestTemplate googleRestTemplate, // Google 전용 연결 풀 (OutboundHttpConfig)
+                                @Qualifier("googleWebClient") WebClient googleWebClient,
+                                GooglePlacesProperties props,
+                                PlacesResponseCache cache,
+                                PlaceRecordStore records,
+                                UpstreamGuard guard,
+                                PlacesQuotaBudget budget) {
+        this.googleRestTemplate = googleRestTemplate;
+        this.googleWebClient = googleWebClient;
+        this.props = props;
+        this.cache = cache;
+        this.records = records;
+        this.guard = guard;
+        this.budget = budget;
+    }
 
     /** 검색용 필드마스크 (카드 목록) */
     private static final String SEARCH_FIELD_MASK = String.join(",",
@@ -48,56 +85,34 @@ public class GooglePlacesClientV1 {
             "places.addressDescriptor"
     );
 
-    /** 상세용 필드마스크 (상세 화면) */
-    private static final String DETAIL_FIELD_MASK = String.join(",",
-            "id",
-            "displayName",
-            "formattedAddress",
-            "internationalPhoneNumber",
-            "nationalPhoneNumber",
-            "currentOpeningHours.weekdayDescriptions",
-            "priceLevel",
-            "rating",
-            "userRatingCount",
-            "photos",
-            // 소개(최우선)
-            "editorialSummary",
-            "generativeSummary.overview",
-            "generativeSummary.description",
-            // 보조 맥락
-            "areaSummary",
-            "addressDescriptor",
-            // 위키 geosearch용 좌표
-            "location"
-    );
+    private static final String ATTRACTIONS_QUERY = "도봉구 명소";
 
-    /** 리뷰용 필드마스크(최소) */
-    private static final String REVIEWS_FIELD_MASK = String.join(",",
-            "id",
-            "rating",
-            "userRatingCount",
-            "reviews"
-    );
+    /** 검색 응답이 빠짐없이 담고 있는 장소 필드 묶음 → 장소 레코드를 미리 채움 */
+    private static final Set<PlaceFieldGroup> SEARCH_SEEDED_GROUPS =
+            Set.of(PlaceFieldGroup.SUMMARY, PlaceFieldGroup.RATING);
 
 
     // ==========================
 // 2. 동적 쿼리 검색 (/autocomplete용)
 // ==========================
     public PlacesV1SearchTextResponse searchPlacesByQuery(String userQuery) { // ⭐ 새로운 메서드
-        URI uri = URI.create(BASE + "/places:searchText");
+        String key = cacheKey(SEARCH_FIELD_MASK, "q:" + (userQuery == null ? "" : userQuery.trim()));
+        return cache.get(PlacesCacheTier.SEARCH, key, PlacesV1SearchTextResponse.class,
+                () -> loadPlacesByQuery(userQuery));
+    }
+
+    private PlacesV1SearchTextResponse loadPlacesByQuery(String userQuery) {
+        URI uri = URI.create(props.getBaseUrl() + "/places:searchText");
         HttpHeaders headers = newHeaders(SEARCH_FIELD_MASK);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         String combinedQuery = "도봉구 " + userQuery; // 도봉구 + 사용자의 검색어 조합
 
-        Map<String, Object> body = Map.of(
-                "textQuery", combinedQuery, // 동적 쿼리 사용
-                "languageCode", props.getLanguage(),
-                "regionCode",  props.getRegion()
-        );
+        Map<String, Object> body = searchTextBody(combinedQuery);
         ResponseEntity<PlacesV1SearchTextResponse> res =
-                postJson(uri, headers, body, PlacesV1SearchTextResponse.class);
+                postJson(PlacesQuotaBudget.Bucket.SEARCH, uri, headers, body, PlacesV1SearchTextResponse.class);
 
+        seedRecords(res.getBody());
         log.info("[PLACES v1 searchPlacesByQuery] query={} http={} size={}",
                 combinedQuery,
                 res.getStatusCodeValue(),
@@ -110,19 +125,21 @@ public class GooglePlacesClientV1 {
     // 검색(목록)
     // ==========================
     public PlacesV1SearchTextResponse searchDobongAttractions() {
-        URI uri = URI.create(BASE + "/places:searchText");
+        return cache.get(PlacesCacheTier.SEARCH, cacheKey(SEARCH_FIELD_MASK, "attractions"),
+                PlacesV1SearchTextResponse.class, this::loadDobongAttractions);
+    }
+
+    private PlacesV1SearchTextResponse loadDobongAttractions() {
+        URI uri = URI.create(props.getBaseUrl() + "/places:searchText");
         HttpHeaders headers = newHeaders(SEARCH_FIELD_MASK);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        Map<String, Object> body = Map.of(
-                "textQuery", "도봉구 명소",
-                "languageCode", props.getLanguage(),
-                "regionCode",  props.getRegion()
-        );
+        Map<String, Object> body = searchTextBody(ATTRACTIONS_QUERY);
 
         ResponseEntity<PlacesV1SearchTextResponse> res =
-                postJson(uri, headers, body, PlacesV1SearchTextResponse.class);
+                postJson(PlacesQuotaBudget.Bucket.SEARCH, uri, headers, body, PlacesV1SearchTextResponse.class);
 
+        seedRecords(res.getBody());
         log.info("[PLACES v1 search] http={} size={}",
                 res.getStatusCodeValue(),
                 res.getBody() != null && res.getBody().getPlaces() != null
@@ -132,46 +149,66 @@ public class GooglePlacesClientV1 {
     }
 
     // ==========================
-    // 상세
+    // 상세 (장소 레코드 — 없는 필드 묶음만 요청)
     // ==========================
     public PlacesV1PlaceDetailsResponse fetchPlaceDetails(String placeId) {
-        String id = normalizePlaceId(placeId);
-        URI uri = UriComponentsBuilder.fromHttpUrl(BASE + "/places/" + id)
-                .queryParam("languageCode", props.getLanguage())
-                .queryParam("regionCode", props.getRegion())
-                .build(true)
-                .toUri();
-
-        HttpHeaders headers = newHeaders(DETAIL_FIELD_MASK);
+        return fetchPlace(placeId, PlaceFieldGroup.DETAIL);
+    }
 
-        ResponseEntity<PlacesV1PlaceDetailsResponse> res =
-                exchangeGet(uri, headers, PlacesV1PlaceDetailsResponse.class);
+    /** 리뷰 + 평점 */
+    public PlacesV1PlaceDetailsResponse fetchPlaceReviews(String placeId) {
+        return fetchPlace(placeId, PlaceFieldGroup.REVIEW_LIST);
+    }
 
-        return res.getBody();
+    /** 리뷰 + 평점 (캐시만 — 호출 대기 없음). 없거나 오래됐으면 백그라운드로 채움 */
+    public PlaceRecordStore.Cached peekPlaceReviews(String placeId) {
+        String id = normalizePlaceId(placeId);
+        return records.peek(recordKey(id), PlaceFieldGroup.REVIEW_LIST, mask -> loadPlaceFields(id, mask));
     }
 
-    // ==========================
-    // 리뷰 전용
-    // ==========================
-    public PlacesV1PlaceDetailsResponse fetchPlaceReviews(String placeId) {
+    /**
+     * 필요한 필드 묶음만 보장해 조회
+     * - 이미 가진 묶음은 다시 요청하지 않음 (상세/리뷰/좋아요가 같은 레코드를 공유)
+     * - 응답에는 레코드가 가진 다른 묶음의 필드도 함께 담길 수 있음
+     */
+    public PlacesV1PlaceDetailsResponse fetchPlace(String placeId, Set<PlaceFieldGroup> groups) {
         String id = normalizePlaceId(placeId);
-        URI uri = UriComponentsBuilder.fromHttpUrl(BASE + "/places/" + id)
-                .queryParam("languageCode", props.getLanguage())
-                .queryParam("regionCode", props.getRegion())
-                .build(true)
-                .toUri();
+        return records.get(recordKey(id), groups, mask -> loadPlaceFields(id, mask));
+    }
 
-        HttpHeaders headers = newHeaders(REVIEWS_FIELD_MASK);
+    private JsonNode loadPlaceFields(String id, String fieldMask) {
+        URI uri = detailsUri(id);
+        HttpHeaders headers = newHeaders(fieldMask);
 
-        ResponseEntity<PlacesV1PlaceDetailsResponse> res =
-                exchangeGet(uri, headers, PlacesV1PlaceDetailsResponse.class);
+        ResponseEntity<JsonNode> res =
+                exchangeGet(PlacesQuotaBudget.Bucket.DETAILS, uri, headers, JsonNode.class);
 
         return res.getBody();
     }
 
+    /** 검색 결과의 장소들로 레코드 채우기 (이후 상세 조회는 CONTACT 만 요청) */
+    private void seedRecords(PlacesV1SearchTextResponse body) {
+        if (body == null || body.getPlaces() == null) return;
+        for (PlacesV1SearchTextResponse.Place p : body.getPlaces()) {
+            if (p.getId() == null) continue;
+            records.seed(recordKey(normalizePlaceId(p.getId())), SEARCH_SEEDED_GROUPS, p);
+        }
+    }
+
     // ==========================
     // 유틸
     // ==========================
+    /** 캐시 키: 필드마스크 해시 + 언어/지역 + 요청 식별자 (마스크/로케일이 바뀌면 자연히 새 키) */
+    private String cacheKey(String fieldMask, String raw) {
+        return Integer.toHexString(fieldMask.hashCode()) + ":"
+                + props.getLanguage() + "-" + props.getRegion() + ":" + raw;
+    }
+
+    /** 장소 레코드 키: 언어/지역 + placeId */
+    private String recordKey(String id) {
+        return props.getLanguage() + "-" + props.getRegion() + ":" + id;
+    }
+
     private HttpHeaders newHeaders(String fieldMask) {
         HttpHeaders headers = new HttpHeaders();
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
@@ -181,20 +218,31 @@ public class GooglePlacesClientV1 {
         return headers;
     }
 
-    private <T> ResponseEntity<T> exchangeGet(URI uri, HttpHeaders headers, Class<T> type) {
+    /** 호출량 예산 확보 → 보호된 호출 → 결과(성공/429)를 예산에 반영 */
+    private <T> ResponseEntity<T> exchangeGet(PlacesQuotaBudget.Bucket bucket, URI uri, HttpHeaders headers, Class<T> type) {
+        budget.acquire(bucket);
         try {
-            return restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), type);
+            ResponseEntity<T> res = guard.call(Upstream.GOOGLE,
+                    () -> googleRestTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), type));
+            budget.onSuccess(bucket);
+            return res;
         } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().value() == 429) budget.onThrottled(bucket);
             log.error("[PLACES v1 GET] uri={} status={} body={}",
                     uri, e.getStatusCode().value(), e.getResponseBodyAsString());
             throw e;
         }
     }
 
-    private <T> ResponseEntity<T> postJson(URI uri, HttpHeaders headers, Object body, Class<T> type) {
+    private <T> ResponseEntity<T> postJson(PlacesQuotaBudget.Bucket bucket, URI uri, HttpHeaders headers, Object body, Class<T> type) {
+        budget.acquire(bucket);
         try {
-            return restTemplate.exchange(uri, HttpMethod.POST, new HttpEntity<>(body, headers), type);
+            ResponseEntity<T> res = guard.call(Upstream.GOOGLE,
+                    () -> googleRestTemplate.exchange(uri, HttpMethod.POST, new HttpEntity<>(body, headers), type));
+            budget.onSuccess(bucket);
+            return res;
         } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().value() == 429) budget.onThrottled(bucket);
             log.error("[PLACES v1 POST] {} -> status={} body={}",
                     uri, e.getStatusCode().value(), e.getResponseBodyAsString());
             throw e;
@@ -204,7 +252,7 @@ public class GooglePlacesClientV1 {
     public String buildPhotoUrl(String photoName, int maxWidthPx) {
         if (photoName == null) return null;
         int w = Math.max(100, Math.min(maxWidthPx, 1600));
-        return BASE + "/" + photoName + "/media?maxWidthPx=" + w + "&key=" + props.getApiKey();
+        return props.getBaseUrl() + "/" + photoName + "/media?maxWidthPx=" + w + "&key=" + props.getApiKey();
     }
 
     public String buildMapsUrl(String googleMapsUri) {
@@ -216,11 +264,66 @@ public class GooglePlacesClientV1 {
         return placeId.startsWith("places/") ? placeId.substring("places/".length()) : placeId;
     }
 
+    /**
+     * 텍스트 검색 → 첫 사진 URL
+     * - 캐시에는 photo name 만 보관 (URL 에 API 키가 붙으므로), 없음("")도 캐시
+     * - 호출 실패는 캐시하지 않음 → 다음 요청에서 재시도
+     * - empty 는 '사진 없음'(검색 결과에 사진 없음, 400/404) 일 때만
+     * - 5xx/429/타임아웃/연결 오류 등 일시 실패는 UPSTREAM_UNAVAILABLE 로 던짐 → 호출자가 '사진 없음'과 구분
+     * - 브레이커 열림/동시 한도 초과/호출량 제한(BusinessException)도 그대로 던짐
+     */
     public Optional<String> searchFirstPhotoUrlByText(String textQuery, Double lat, Double lng, int maxWidthPx) {
-        URI uri = URI.create(BASE + "/places:searchText");
+        String raw = textQuery + "|" + roundCoord(lat) + "|" + roundCoord(lng);
+        try {
+            String photoName = cache.get(PlacesCacheTier.PHOTO, cacheKey(SEARCH_FIELD_MASK, raw), String.class,
+                    () -> loadFirstPhotoName(textQuery, lat, lng));
+            if (photoName == null || photoName.isBlank()) return Optional.empty();
+            return Optional.ofNullable(buildPhotoUrl(photoName, maxWidthPx));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (HttpStatusCodeException e) {
+            log.warn("[PLACES v1 searchFirstPhotoUrlByText] status={} body={}",
+                    e.getStatusCode().value(), e.getResponseBodyAsString());
+            if (isNoResultStatus(e.getStatusCode())) return Optional.empty();
+            throw BusinessException.of(StatusCode.UPSTREAM_UNAVAILABLE);
+        } catch (Exception e) {
+            log.warn("[PLACES v1 searchFirstPhotoUrlByText] fail query={}", textQuery, e);
+            throw BusinessException.of(StatusCode.UPSTREAM_UNAVAILABLE);
+        }
+    }
+
+    /** 다시 호출해도 결과가 같은 응답 (잘못된 검색어/없는 리소스) — 그 밖의 4xx·5xx 는 일시 실패로 봄 */
+    private static boolean isNoResultStatus(HttpStatusCode status) {
+        return status.value() == 400 || status.value() == 404;
+    }
+
+    /** 좌표 4자리(약 10m) 반올림 — 같은 장소의 미세한 좌표 차이를 같은 키로 */
+    private static String roundCoord(Double v) {
+        return v == null ? "" : String.format(Locale.ROOT, "%.4f", v);
+    }
+
+    /** 첫 후보의 첫 photo name, 없으면 "" (실패는 예외 그대로) */
+    private String loadFirstPhotoName(String textQuery, Double lat, Double lng) {
+        URI uri = URI.create(props.getBaseUrl() + "/places:searchText");
         HttpHeaders headers = newHeaders(SEARCH_FIELD_MASK);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
+        Map<String, Object> body = photoSearchBody(textQuery, lat, lng);
+
+        // places:searchText 응답을 JsonNode로 받아 처리 (DTO 없어도 OK)
+        ResponseEntity<JsonNode> res = postJson(PlacesQuotaBudget.Bucket.PHOTO, uri, headers, body, JsonNode.class);
+        return firstPhotoName(res.getBody());
+    }
+
+    private Map<String, Object> searchTextBody(String textQuery) {
+        return Map.of(
+                "textQuery", textQuery,
+                "languageCode", props.getLanguage(),
+                "regionCode",  props.getRegion()
+        );
+    }
+
+    private Map<String, Object> photoSearchBody(String textQuery, Double lat, Double lng) {
         Map<String, Object> body = new HashMap<>();
         body.put("textQuery", textQuery);
         body.put("languageCode", props.getLanguage());
@@ -238,33 +341,114 @@ public class GooglePlacesClientV1 {
                     )
             ));
         }
+        return body;
+    }
 
-        try {
-            // places:searchText 응답을 JsonNode로 받아 처리 (DTO 없어도 OK)
-            ResponseEntity<JsonNode> res = postJson(uri, headers, body, JsonNode.class);
-            JsonNode root = res.getBody();
-            if (root == null || !root.has("places")) return Optional.empty();
+    /** places:searchText 응답(JsonNode)에서 첫 후보의 첫 photo name, 없으면 "" */
+    private static String firstPhotoName(JsonNode root) {
+        if (root == null || !root.has("places")) return "";
 
-            JsonNode places = root.get("places");
-            if (!places.isArray() || places.isEmpty()) return Optional.empty();
+        JsonNode places = root.get("places");
+        if (!places.isArray() || places.isEmpty()) return "";
 
-            // 1순위 후보 선택 (필요시 더 정교한 스코어링 가능)
-            JsonNode first = places.get(0);
-            JsonNode photos = first.path("photos");
-            if (!photos.isArray() || photos.isEmpty()) return Optional.empty();
+        // 1순위 후보 선택 (필요시 더 정교한 스코어링 가능)
+        JsonNode first = places.get(0);
+        JsonNode photos = first.path("photos");
+        if (!photos.isArray() || photos.isEmpty()) return "";
 
-            // v1은 photo.name 형태 ("places/xxx/photos/yyy")
-            String photoName = photos.get(0).path("name").asText(null);
-            if (photoName == null || photoName.isBlank()) return Optional.empty();
+        // v1은 photo.name 형태 ("places/xxx/photos/yyy")
+        String photoName = photos.get(0).path("name").asText("");
+        return photoName.isBlank() ? "" : photoName;
+    }
 
-            return Optional.ofNullable(buildPhotoUrl(photoName, maxWidthPx));
-        } catch (HttpStatusCodeException e) {
-            log.warn("[PLACES v1 searchFirstPhotoUrlByText] status={} body={}",
-                    e.getStatusCode().value(), e.getResponseBodyAsString());
-            return Optional.empty();
-        } catch (Exception e) {
-            log.warn("[PLACES v1 searchFirstPhotoUrlByText] fail query={}", textQuery, e);
-            return Optional.empty();
-        }
-}
+    private URI detailsUri(String id) {
+        return UriComponentsBuilder.fromHttpUrl(props.getBaseUrl() + "/places/" + id)
+                .queryParam("languageCode", props.getLanguage())
+                .queryParam("regionCode", props.getRegion())
+                .build(true)
+                .toUri();
+    }
+
+    // ==========================
+    // 비동기 API (WebClient) — 캐시 키/레코드/예산은 동기 API 와 공유
+    // ==========================
+    public Mono<PlacesV1SearchTextResponse> searchPlacesByQueryAsync(String userQuery) {
+        String key = cacheKey(SEARCH_FIELD_MASK, "q:" + (userQuery == null ? "" : userQuery.trim()));
+        return cache.getAsync(PlacesCacheTier.SEARCH, key, PlacesV1SearchTextResponse.class,
+                () -> postJsonAsync(PlacesQuotaBudget.Bucket.SEARCH, URI.create(props.getBaseUrl() + "/places:searchText"),
+                        SEARCH_FIELD_MASK, searchTextBody("도봉구 " + userQuery), PlacesV1SearchTextResponse.class)
+                        .doOnNext(this::seedRecords));
+    }
+
+    public Mono<PlacesV1SearchTextResponse> searchDobongAttractionsAsync() {
+        return cache.getAsync(PlacesCacheTier.SEARCH, cacheKey(SEARCH_FIELD_MASK, "attractions"),
+                PlacesV1SearchTextResponse.class,
+                () -> postJsonAsync(PlacesQuotaBudget.Bucket.SEARCH, URI.create(props.getBaseUrl() + "/places:searchText"),
+                        SEARCH_FIELD_MASK, searchTextBody(ATTRACTIONS_QUERY), PlacesV1SearchTextResponse.class)
+                        .doOnNext(this::seedRecords));
+    }
+
+    public Mono<PlacesV1PlaceDetailsResponse> fetchPlaceDetailsAsync(String placeId) {
+        return fetchPlaceAsync(placeId, PlaceFieldGroup.DETAIL);
+    }
+
+    public Mono<PlacesV1PlaceDetailsResponse> fetchPlaceReviewsAsync(String placeId) {
+        return fetchPlaceAsync(placeId, PlaceFieldGroup.REVIEW_LIST);
+    }
+
+    public Mono<PlacesV1PlaceDetailsResponse> fetchPlaceAsync(String placeId, Set<PlaceFieldGroup> groups) {
+        String id = normalizePlaceId(placeId);
+        return records.getAsync(recordKey(id), groups,
+                mask -> getAsync(PlacesQuotaBudget.Bucket.DETAILS, detailsUri(id), mask, JsonNode.class));
+    }
+
+    /**
+     * searchFirstPhotoUrlByText 의 비동기 버전 — 사진이 없으면 empty
+     * - 일시 실패(5xx/429/타임아웃 등)는 UPSTREAM_UNAVAILABLE error
+     * - 브레이커 열림/동시 한도 초과/호출량 제한(BusinessException)은 그대로 error
+     */
+    public Mono<String> searchFirstPhotoUrlByTextAsync(String textQuery, Double lat, Double lng, int maxWidthPx) {
+        String raw = textQuery + "|" + roundCoord(lat) + "|" + roundCoord(lng);
+        return cache.getAsync(PlacesCacheTier.PHOTO, cacheKey(SEARCH_FIELD_MASK, raw), String.class,
+                        () -> postJsonAsync(PlacesQuotaBudget.Bucket.PHOTO, URI.create(props.getBaseUrl() + "/places:searchText"),
+                                SEARCH_FIELD_MASK, photoSearchBody(textQuery, lat, lng), JsonNode.class)
+                                .map(GooglePlacesClientV1::firstPhotoName))
+                .filter(photoName -> !photoName.isBlank())
+                .map(photoName -> buildPhotoUrl(photoName, maxWidthPx))
+                .onErrorResume(e -> !(e instanceof BusinessException), e -> {
+                    log.warn("[PLACES v1 searchFirstPhotoUrlByTextAsync] fail query={} | {}", textQuery, e.toString());
+                    if (e instanceof WebClientResponseException we && isNoResultStatus(we.getStatusCode())) return Mono.empty();
+                    return Mono.error(BusinessException.of(StatusCode.UPSTREAM_UNAVAILABLE));
+                });
+    }
+
+    /** 호출량 예산 확보(기다려도 스레드 안 잡음) → 보호된 호출 → 결과(성공/429)를 예산에 반영 */
+    private <T> Mono<T> getAsync(PlacesQuotaBudget.Bucket bucket, URI uri, String fieldMask, Class<T> type) {
+        return guardedAsync(bucket, "GET " + uri, googleWebClient.get()
+                .uri(uri)
+                .headers(h -> h.addAll(newHeaders(fieldMask)))
+                .retrieve()
+                .bodyToMono(type));
+    }
+
+    private <T> Mono<T> postJsonAsync(PlacesQuotaBudget.Bucket bucket, URI uri, String fieldMask, Object body, Class<T> type) {
+        return guardedAsync(bucket, "POST " + uri, googleWebClient.post()
+                .uri(uri)
+                .headers(h -> h.addAll(newHeaders(fieldMask)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(type));
+    }
+
+    private <T> Mono<T> guardedAsync(PlacesQuotaBudget.Bucket bucket, String what, Mono<T> request) {
+        return budget.acquireAsync(bucket)
+                .then(guard.callAsync(Upstream.GOOGLE, request))
+                .doOnSuccess(v -> budget.onSuccess(bucket))
+                .doOnError(WebClientResponseException.class, e -> {
+                    if (e.getStatusCode().value() == 429) budget.onThrottled(bucket);
+                    log.error("[PLACES v1 async] {} -> status={} body={}",
+                            what, e.getStatusCode().value(), e.getResponseBodyAsString());
+                });
+    }
 }
@@ -1,17 +0,0 @@
-package com.dobongzip.dobong.domain.map.client;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-
-@Configuration
-public class GooglePlacesConfig {
-    @Bean
-    public RestTemplate restTemplate(org.springframework.boot.web.client.RestTemplateBuilder builder) {
-        return builder
-                .defaultHeader(org.springframework.http.HttpHeaders.USER_AGENT,
-                        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
-                                + "(KHTML, like Gecko) Chrome/126.0.0.0 Safari/537.36")
-                .build();
-    }
-}
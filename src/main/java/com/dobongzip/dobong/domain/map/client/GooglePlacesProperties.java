@@ -8,11 +8,14 @@ import org.springframework.stereotype.Component;
 @Component
 @ConfigurationProperties(prefix = "google.places")
 public class GooglePlacesProperties {
+    /** Places API v1 주소 (벤치마크/테스트에서 스텁 서버로 바꿀 때만 설정) */
+    private String baseUrl = "https://places.googleapis.com/v1";
     private String apiKey;
     private String language;
     private String region;
     private int radiusM;
 
+    public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
     public void setApiKey(String apiKey) { this.apiKey = apiKey; }
     public void setLanguage(String language) { this.language = language; }
     public void setRegion(String region) { this.region = region; }
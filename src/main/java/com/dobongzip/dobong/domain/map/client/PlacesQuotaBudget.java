@@ -0,0 +1,230 @@
+package com.dobongzip.dobong.domain.map.client;
+
+import com.dobongzip.dobong.global.exception.BusinessException;
+import com.dobongzip.dobong.global.http.CallPriority;
+import com.dobongzip.dobong.global.response.StatusCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google Places 호출량 예산 (API 키 하나를 모든 요청이 공유)
+ * - 종류별(SEARCH/DETAILS/PHOTO) 토큰 버킷 + 선택적 일일 한도
+ * - 429 를 받으면 해당 버킷 속도를 곱셈 감소, 일정 시간 429 가 없으면 덧셈 증가로 설정값까지 회복
+ * - background 호출(CallPriority)은 예비분을 쓰지 못하고 기다리지도 않음 → 사용자 상세 조회가 우선
+ * - 토큰이 없으면 PLACES_RATE_LIMITED(429) — Google 까지 가지 않음
+ * - 지표: places.quota.tokens / places.quota.rate / places.quota.daily.remaining,
+ *         places.quota.rejected{bucket,priority}, places.quota.throttled{bucket}
+ */
+@Slf4j
+@Component
+public class PlacesQuotaBudget {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    public enum Bucket {
+        SEARCH, DETAILS, PHOTO;
+
+        String key() { return name().toLowerCase(); }
+    }
+
+    private final PlacesQuotaProperties props;
+    private final Map<Bucket, TokenBucket> buckets = new EnumMap<>(Bucket.class);
+    private final Map<Bucket, Counter> rejectedInteractive = new EnumMap<>(Bucket.class);
+    private final Map<Bucket, Counter> rejectedBackground = new EnumMap<>(Bucket.class);
+    private final Map<Bucket, Counter> throttled = new EnumMap<>(Bucket.class);
+
+    public PlacesQuotaBudget(PlacesQuotaProperties props, MeterRegistry registry) {
+        this.props = props;
+        for (Bucket b : Bucket.values()) {
+            TokenBucket tb = new TokenBucket(limitOf(b));
+            buckets.put(b, tb);
+
+            Gauge.builder("places.quota.tokens", tb, TokenBucket::tokens).tag("bucket", b.key()).register(registry);
+            Gauge.builder("places.quota.rate", tb, TokenBucket::rate).tag("bucket", b.key()).register(registry);
+            if (tb.dailyLimit > 0) {
+                Gauge.builder("places.quota.daily.remaining", tb, TokenBucket::dailyRemaining)
+                        .tag("bucket", b.key()).register(registry);
+            }
+            rejectedInteractive.put(b, rejectedCounter(registry, b, "interactive"));
+            rejectedBackground.put(b, rejectedCounter(registry, b, "background"));
+            throttled.put(b, Counter.builder("places.quota.throttled").tag("bucket", b.key()).register(registry));
+        }
+    }
+
+    /** 호출 1회분 확보 — 못 하면 PLACES_RATE_LIMITED */
+    public void acquire(Bucket bucket) {
+        TokenBucket tb = buckets.get(bucket);
+        boolean background = CallPriority.isBackground();
+        double reserve = background ? props.getBackgroundReserve() : 0.0;
+
+        long waitNanos = tb.tryAcquire(reserve);
+        if (waitNanos == 0) return;
+
+        // 사용자 요청만 짧게 기다렸다가 한 번 더 시도
+        long maxWait = props.getInteractiveMaxWait().toNanos();
+        if (!background && waitNanos > 0 && waitNanos <= maxWait) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (tb.tryAcquire(reserve) == 0) return;
+        }
+
+        throw rejected(bucket, background);
+    }
+
+    /**
+     * 비동기 호출용 acquire — 기다릴 때 스레드를 잡지 않음 (Mono.delay)
+     * - 우선순위는 Reactor Context(CallPriority.background(Mono)) 또는 구독 스레드 표시로 판단
+     */
+    public Mono<Void> acquireAsync(Bucket bucket) {
+        return Mono.deferContextual(ctx -> {
+            TokenBucket tb = buckets.get(bucket);
+            boolean background = CallPriority.isBackground(ctx);
+            double reserve = background ? props.getBackgroundReserve() : 0.0;
+
+            long waitNanos = tb.tryAcquire(reserve);
+            if (waitNanos == 0) return Mono.<Void>empty();
+
+            if (!background && waitNanos > 0 && waitNanos <= props.getInteractiveMaxWait().toNanos()) {
+                return Mono.delay(Duration.ofNanos(waitNanos))
+                        .then(Mono.defer(() -> tb.tryAcquire(reserve) == 0
+                                ? Mono.<Void>empty()
+                                : Mono.<Void>error(rejected(bucket, false))));
+            }
+            return Mono.<Void>error(rejected(bucket, background));
+        });
+    }
+
+    public void onSuccess(Bucket bucket) {
+        buckets.get(bucket).recover();
+    }
+
+    /** Google 429 수신 */
+    public void onThrottled(Bucket bucket) {
+        throttled.get(bucket).increment();
+        double rate = buckets.get(bucket).backOff();
+        log.warn("[PlacesQuota] 429 on {} → rate {}/s", bucket.key(), String.format("%.2f", rate));
+    }
+
+    private BusinessException rejected(Bucket bucket, boolean background) {
+        (background ? rejectedBackground : rejectedInteractive).get(bucket).increment();
+        return BusinessException.of(StatusCode.PLACES_RATE_LIMITED);
+    }
+
+    private PlacesQuotaProperties.Limit limitOf(Bucket b) {
+        return switch (b) {
+            case SEARCH -> props.getSearch();
+            case DETAILS -> props.getDetails();
+            case PHOTO -> props.getPhoto();
+        };
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, Bucket b, String priority) {
+        return Counter.builder("places.quota.rejected")
+                .tag("bucket", b.key())
+                .tag("priority", priority)
+                .register(registry);
+    }
+
+    /** 토큰 버킷 (AIMD 속도 조절 + 일일 한도) */
+    private final class TokenBucket {
+        final double maxRate;
+        final double capacity;
+        final long dailyLimit;
+
+        double rate;
+        double tokens;
+        long lastRefillNanos = System.nanoTime();
+        long lastThrottleNanos;
+        long lastIncreaseNanos;
+        boolean throttledOnce;
+
+        LocalDate day = LocalDate.now(KST);
+        long usedToday;
+
+        TokenBucket(PlacesQuotaProperties.Limit limit) {
+            this.maxRate = Math.max(0.01, limit.getRatePerSecond());
+            this.capacity = Math.max(1, limit.getBurst());
+            this.dailyLimit = Math.max(0, limit.getDailyLimit());
+            this.rate = maxRate;
+            this.tokens = capacity;
+        }
+
+        /**
+         * 0: 확보 성공 / 양수: 이만큼 기다리면 토큰이 생김 / 음수: 기다려도 안 됨(일일 한도)
+         * reserve: 이 비율만큼은 남겨 두고 그 위에서만 사용
+         */
+        synchronized long tryAcquire(double reserve) {
+            refill();
+            if (dailyLimit > 0 && usedToday >= dailyLimit * (1.0 - reserve)) return -1;
+
+            double floor = capacity * reserve;
+            if (tokens >= floor + 1.0) {
+                tokens -= 1.0;
+                usedToday++;
+                return 0;
+            }
+            double missing = floor + 1.0 - tokens;
+            return Math.max(1L, (long) (missing / rate * 1e9));
+        }
+
+        synchronized double backOff() {
+            refill();
+            rate = Math.max(maxRate * props.getMinRateFraction(), rate * props.getBackoffFactor());
+            tokens = Math.min(tokens, 0.0); // 남은 버스트도 비워 바로 몰아치지 않게
+            lastThrottleNanos = System.nanoTime();
+            throttledOnce = true;
+            return rate;
+        }
+
+        /** 마지막 429 이후 recoveryDelay 가 지났으면 초당 한 번, 설정 속도의 10%씩 회복 */
+        synchronized void recover() {
+            if (rate >= maxRate) return;
+            long now = System.nanoTime();
+            if (throttledOnce && now - lastThrottleNanos < props.getRecoveryDelay().toNanos()) return;
+            if (now - lastIncreaseNanos < TimeUnit.SECONDS.toNanos(1)) return;
+            refill();
+            rate = Math.min(maxRate, rate + maxRate * 0.1);
+            lastIncreaseNanos = now;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1e9 * rate);
+            lastRefillNanos = now;
+
+            LocalDate today = LocalDate.now(KST);
+            if (!today.equals(day)) {
+                day = today;
+                usedToday = 0;
+            }
+        }
+
+        synchronized double tokens() {
+            refill();
+            return tokens;
+        }
+
+        synchronized double rate() {
+            return rate;
+        }
+
+        synchronized double dailyRemaining() {
+            refill();
+            return Math.max(0, dailyLimit - usedToday);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.dobongzip.dobong.domain.map.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.places.quota")
+public class PlacesQuotaProperties {
+
+    private Limit search = new Limit(5, 10, 0);
+    private Limit details = new Limit(20, 40, 0);
+    private Limit photo = new Limit(5, 10, 0);
+
+    /** background 호출이 건드리지 못하는 예비분 (버킷/일일 한도 대비 비율) */
+    private double backgroundReserve = 0.3;
+    /** 사용자 요청이 토큰을 기다리는 최대 시간 (background 는 기다리지 않음) */
+    private Duration interactiveMaxWait = Duration.ofMillis(300);
+    /** 429 를 받으면 속도를 이 비율로 줄임 (곱셈 감소) */
+    private double backoffFactor = 0.5;
+    /** 줄어든 속도의 하한 (설정 속도 대비 비율) */
+    private double minRateFraction = 0.1;
+    /** 마지막 429 이후 이 시간이 지나야 속도를 다시 올림 (덧셈 증가) */
+    private Duration recoveryDelay = Duration.ofSeconds(30);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        /** 초당 허용 호출 수 (평균) */
+        private double ratePerSecond;
+        /** 순간 최대 호출 수 (버킷 크기) */
+        private int burst;
+        /** 하루 최대 호출 수 (KST 자정 초기화, 0 = 제한 없음) */
+        private long dailyLimit;
+
+        public Limit() {
+        }
+
+        public Limit(double ratePerSecond, int burst, long dailyLimit) {
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+            this.dailyLimit = dailyLimit;
+        }
+    }
+}
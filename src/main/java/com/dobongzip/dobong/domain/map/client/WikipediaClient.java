@@ -1,87 +1,238 @@
 package com.dobongzip.dobong.domain.map.client;
 
-import lombok.RequiredArgsConstructor;
+import com.dobongzip.dobong.domain.map.cache.SingleFlight;
+import com.dobongzip.dobong.global.http.Upstream;
+import com.dobongzip.dobong.global.http.UpstreamGuard;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Wikipedia 요약 조회
+ * - 우선순위: 제목 직행(ko → en) → 제목 검색(ko → en) → 좌표 geosearch(ko → en)
+ * - 같은 단계의 ko/en 은 동시에 보내고, 다음 단계는 hedge-delay 뒤(또는 앞 단계가 모두 빈 결과면 즉시) 출발
+ * - 결과는 우선순위 순으로 확정: 앞 순위가 모두 '없음'으로 끝난 뒤의 첫 성공만 채택, 나머지 요청은 취소
+ * - 전체 소요 시간은 deadline 으로 제한 (초과 시 그때까지 받은 결과 중 최우선만 사용)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class WikipediaClient {
 
     private final RestTemplate restTemplate;
+    private final UpstreamGuard guard;
+    private final long hedgeDelayMs;
+    private final long deadlineMs;
+    private final ExecutorService executor;
 
     // 반경을 넉넉하게 (m)
     private static final int GEOSEARCH_RADIUS_M = 3000;
 
+    public WikipediaClient(@Qualifier("wikipediaRestTemplate") RestTemplate restTemplate,
+                           UpstreamGuard guard,
+                           @Value("${app.wiki.hedge-delay-ms:300}") long hedgeDelayMs,
+                           @Value("${app.wiki.deadline-ms:3000}") long deadlineMs,
+                           @Value("${app.wiki.threads:8}") int threads) {
+        this.restTemplate = restTemplate;
+        this.guard = guard;
+        this.hedgeDelayMs = hedgeDelayMs;
+        this.deadlineMs = deadlineMs;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256),
+                r -> {
+                    Thread t = new Thread(r, "wikipedia-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /** 같은 장소 요약의 동시 요청은 한 번만 조회 */
+    private final SingleFlight<String, Lookup> summaryFlights = new SingleFlight<>();
+
+    /**
+     * 요약 조회 결과
+     * - summary == null && !failed : 모든 단계가 정상 응답했지만 문서 없음 (음성 캐시 가능)
+     * - failed : 일부 단계가 네트워크/5xx/429 등으로 실패 → 결과를 확정할 수 없음
+     */
+    public record Lookup(String summary, boolean failed) {
+        public Optional<String> asOptional() { return Optional.ofNullable(summary); }
+    }
+
     /**
      * 이름으로 요약 시도 → 이름 검색(search) → 좌표 기반 geosearch 순서.
-     * ko 우선, 실패 시 en 시도.
+     * ko 우선, 실패 시 en 결과 사용 (요청은 병렬, 채택은 이 순서대로).
      */
     public Optional<String> getSummary(String nameKo, Double lat, Double lng) {
-        try {
-            // 1) 제목 직행
-            if (nonEmpty(nameKo)) {
-                // ko
-                String s = fetchSummary("ko", nameKo);
-                if (nonEmpty(s)) return Optional.of(s);
-                // en
-                s = fetchSummary("en", nameKo);
-                if (nonEmpty(s)) return Optional.of(s);
-            }
+        return lookup(nameKo, lat, lng).asOptional();
+    }
+
+    /** getSummary 와 같으나 '문서 없음'과 '조회 실패'를 구분해서 반환 */
+    public Lookup lookup(String nameKo, Double lat, Double lng) {
+        String key = nameKo + "|" + lat + "|" + lng;
+        return summaryFlights.execute(key, () -> {
+            Attempt a = new Attempt();
+            String s = lookupSummary(a, nameKo, lat, lng);
+            return new Lookup(s, s == null && a.failed);
+        });
+    }
+
+    /** 한 번의 조회 동안 일시 실패(네트워크/5xx/429 등)가 있었는지 기록 */
+    private static final class Attempt {
+        volatile boolean failed;
+
+        String fail(Exception e) {
+            // 404/400 만 '없음'으로 확정, 그 외(429/408/403 등 4xx, 5xx, 네트워크)는 일시 실패 → 음성 캐시 안 함
+            if (!isAbsent(e)) failed = true;
+            return null;
+        }
+
+        private static boolean isAbsent(Exception e) {
+            if (!(e instanceof HttpClientErrorException he)) return false;
+            int status = he.getStatusCode().value();
+            return status == 404 || status == 400;
+        }
+    }
 
+    private String lookupSummary(Attempt a, String nameKo, Double lat, Double lng) {
+        // 우선순위 순 후보 (같은 tier 는 동시에 출발)
+        List<Candidate> candidates = new ArrayList<>(6);
+        if (nonEmpty(nameKo)) {
+            // 1) 제목 직행
+            candidates.add(new Candidate(0, () -> fetchSummary(a, "ko", nameKo)));
+            candidates.add(new Candidate(0, () -> fetchSummary(a, "en", nameKo)));
             // 2) 제목 검색 (search)
-            if (nonEmpty(nameKo)) {
-                // ko
-                String t = searchTitle("ko", nameKo);
-                if (nonEmpty(t)) {
-                    String s = fetchSummary("ko", t);
-                    if (nonEmpty(s)) return Optional.of(s);
-                }
-                // en
-                t = searchTitle("en", nameKo);
-                if (nonEmpty(t)) {
-                    String s = fetchSummary("en", t);
-                    if (nonEmpty(s)) return Optional.of(s);
+            candidates.add(new Candidate(1, () -> summaryOf(a, "ko", searchTitle(a, "ko", nameKo))));
+            candidates.add(new Candidate(1, () -> summaryOf(a, "en", searchTitle(a, "en", nameKo))));
+        }
+        if (lat != null && lng != null) {
+            // 3) 좌표 기반 geosearch
+            candidates.add(new Candidate(2, () -> summaryOf(a, "ko", geosearchTitle(a, "ko", lat, lng))));
+            candidates.add(new Candidate(2, () -> summaryOf(a, "en", geosearchTitle(a, "en", lat, lng))));
+        }
+        if (candidates.isEmpty()) return null;
+
+        return resolveHedged(a, candidates);
+    }
+
+    /** 후보 하나 — tier 가 같으면 동시에 출발 */
+    private record Candidate(int tier, Callable<String> call) {}
+
+    /**
+     * 우선순위대로 결과 확정
+     * - tier 단위로 출발: 앞 tier 출발 후 hedgeDelay 가 지났거나, 출발한 요청이 모두 빈 결과로 끝났을 때
+     * - 확정 즉시 나머지 요청 취소 (아직 대기 중이면 실행 안 됨, 실행 중이면 인터럽트)
+     */
+    private String resolveHedged(Attempt a, List<Candidate> candidates) {
+        int n = candidates.size();
+        List<Future<String>> futures = new ArrayList<>(n);
+        CompletionService<String> done = new ExecutorCompletionService<>(executor);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        long nextLaunchAt = System.nanoTime();
+
+        try {
+            while (true) {
+                // 다음 tier 출발 (첫 tier 는 즉시)
+                long now = System.nanoTime();
+                boolean launchedAllEmpty = settledEmptyPrefix(futures) == futures.size();
+                if (futures.size() < n && (now - nextLaunchAt >= 0 || launchedAllEmpty)) {
+                    int tier = candidates.get(futures.size()).tier();
+                    while (futures.size() < n && candidates.get(futures.size()).tier() == tier) {
+                        futures.add(submit(a, done, candidates.get(futures.size()).call()));
+                    }
+                    nextLaunchAt = now + TimeUnit.MILLISECONDS.toNanos(hedgeDelayMs);
                 }
-            }
 
-            // 3) 좌표 기반 geosearch
-            if (lat != null && lng != null) {
-                // ko
-                String t = geosearchTitle("ko", lat, lng);
-                if (nonEmpty(t)) {
-                    String s = fetchSummary("ko", t);
-                    if (nonEmpty(s)) return Optional.of(s);
+                // 우선순위 확정 여부
+                int prefix = settledEmptyPrefix(futures);
+                if (prefix < futures.size()) {
+                    String s = valueIfDone(futures.get(prefix));
+                    if (nonEmpty(s)) return s;
+                } else if (futures.size() == n) {
+                    return null; // 모두 '없음'
                 }
-                // en
-                t = geosearchTitle("en", lat, lng);
-                if (nonEmpty(t)) {
-                    String s = fetchSummary("en", t);
-                    if (nonEmpty(s)) return Optional.of(s);
+
+                // 다음 완료 / 다음 tier 출발 / deadline 중 가장 이른 시각까지 대기
+                now = System.nanoTime();
+                long waitNanos = deadline - now;
+                if (futures.size() < n) waitNanos = Math.min(waitNanos, nextLaunchAt - now);
+                if (deadline - now <= 0) {
+                    a.failed = true;
+                    log.debug("[Wikipedia] deadline {}ms exceeded", deadlineMs);
+                    return bestCompleted(futures);
                 }
+                if (waitNanos > 0) done.poll(waitNanos, TimeUnit.NANOSECONDS);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            a.failed = true;
+            return null;
+        } finally {
+            for (Future<String> f : futures) f.cancel(true);
+        }
+    }
+
+    private Future<String> submit(Attempt a, CompletionService<String> done, Callable<String> call) {
+        try {
+            return done.submit(call);
+        } catch (RejectedExecutionException e) {
+            a.failed = true; // 풀이 가득 참 → 이 후보는 결과 없음으로 처리 (확정 결과 아님)
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /** 앞에서부터 '끝났고 빈 결과'인 후보 수 */
+    private static int settledEmptyPrefix(List<Future<String>> futures) {
+        int i = 0;
+        while (i < futures.size() && futures.get(i).isDone() && !nonEmpty(valueIfDone(futures.get(i)))) i++;
+        return i;
+    }
 
-            return Optional.empty();
+    /** deadline 초과 시: 끝난 후보 중 우선순위가 가장 높은 성공 결과 */
+    private static String bestCompleted(List<Future<String>> futures) {
+        for (Future<String> f : futures) {
+            String s = valueIfDone(f);
+            if (nonEmpty(s)) return s;
+        }
+        return null;
+    }
+
+    private static String valueIfDone(Future<String> f) {
+        if (!f.isDone() || f.isCancelled()) return null;
+        try {
+            return f.get();
         } catch (Exception e) {
-            log.warn("[Wikipedia] failed: {}", e.toString());
-            return Optional.empty();
+            return null;
         }
     }
 
+    /** 검색으로 찾은 제목의 요약 (제목 없으면 null) */
+    private String summaryOf(Attempt a, String lang, String title) {
+        return nonEmpty(title) ? fetchSummary(a, lang, title) : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
     /** Wikimedia REST summary */
-    private String fetchSummary(String lang, String title) {
+    private String fetchSummary(Attempt a, String lang, String title) {
         try {
             String enc = URLEncoder.encode(title.trim(), StandardCharsets.UTF_8);
             URI u = UriComponentsBuilder
@@ -90,18 +241,16 @@ public class WikipediaClient {
 
             HttpHeaders h = new HttpHeaders();
             h.set("User-Agent", "DobongZip/1.0 (contact: dev@example.com)");
-            ResponseEntity<Map> res = restTemplate.exchange(u, HttpMethod.GET, new HttpEntity<>(h), Map.class);
+            ResponseEntity<Map> res = get(u, h);
             Object extract = res.getBody() != null ? res.getBody().get("extract") : null;
             return (extract instanceof String s) ? s.trim() : null;
-        } catch (HttpStatusCodeException e) {
-            return null; // 404 등 무시
         } catch (Exception e) {
-            return null;
+            return a.fail(e); // 404/400 만 '없음'
         }
     }
 
     /** MediaWiki search API (제목 검색) */
-    private String searchTitle(String lang, String query) {
+    private String searchTitle(Attempt a, String lang, String query) {
         try {
             URI u = UriComponentsBuilder
                     .fromHttpUrl("https://" + lang + ".wikipedia.org/w/api.php")
@@ -114,7 +263,7 @@ public class WikipediaClient {
 
             HttpHeaders h = new HttpHeaders();
             h.set("User-Agent", "DobongZip/1.0 (contact: dev@example.com)");
-            ResponseEntity<Map> res = restTemplate.exchange(u, HttpMethod.GET, new HttpEntity<>(h), Map.class);
+            ResponseEntity<Map> res = get(u, h);
 
             Map body = res.getBody();
             if (body == null) return null;
@@ -127,12 +276,12 @@ public class WikipediaClient {
             Object title = first.get("title");
             return title != null ? String.valueOf(title) : null;
         } catch (Exception e) {
-            return null;
+            return a.fail(e);
         }
     }
 
     /** MediaWiki geosearch (좌표 주변에서 가장 가까운 문서 제목) */
-    private String geosearchTitle(String lang, double lat, double lng) {
+    private String geosearchTitle(Attempt a, String lang, double lat, double lng) {
         try {
             URI u = UriComponentsBuilder
                     .fromHttpUrl("https://" + lang + ".wikipedia.org/w/api.php")
@@ -146,7 +295,7 @@ public class WikipediaClient {
 
             HttpHeaders h = new HttpHeaders();
             h.set("User-Agent", "DobongZip/1.0 (contact: dev@example.com)");
-            ResponseEntity<Map> res = restTemplate.exchange(u, HttpMethod.GET, new HttpEntity<>(h), Map.class);
+            ResponseEntity<Map> res = get(u, h);
 
             Map body = res.getBody();
             if (body == null) return null;
@@ -159,9 +308,15 @@ public class WikipediaClient {
             Object title = first.get("title");
             return title != null ? String.valueOf(title) : null;
         } catch (Exception e) {
-            return null;
+            return a.fail(e);
         }
     }
 
+    /** 보호된 GET (브레이커 열림/동시 한도 초과 시 즉시 실패 → 일시 실패로 기록) */
+    private ResponseEntity<Map> get(URI u, HttpHeaders h) {
+        return guard.call(Upstream.WIKIPEDIA,
+                () -> restTemplate.exchange(u, HttpMethod.GET, new HttpEntity<>(h), Map.class));
+    }
+
     private static boolean nonEmpty(String s) { return s != null && !s.isBlank(); }
 }
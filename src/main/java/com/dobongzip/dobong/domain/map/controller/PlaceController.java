@@ -6,6 +6,7 @@ import com.dobongzip.dobong.domain.map.dto.response.*;
 import com.dobongzip.dobong.domain.map.service.PlaceService;
 import com.dobongzip.dobong.domain.map.service.ReviewService;
 import com.dobongzip.dobong.global.response.CommonResponse;
+import com.dobongzip.dobong.global.s3.service.ProfileAvatarResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -31,9 +32,11 @@ public class PlaceController {
 
     private final PlaceService placeService;
     private final ReviewService reviewService;
+    private final ProfileAvatarResolver avatarResolver;
     @Operation(
-            summary = "장소 연관 검색 (실시간 API 호출 기반)",
-            description = "GET /dobong API 결과를 이용해 메모리에서 사용자의 입력에 매칭되는 장소 이름과 Place ID를 반환합니다."
+            summary = "장소 연관 검색 (로컬 색인 우선)",
+            description = "도봉 장소 로컬 색인(자모/초성 매칭, 조회수 순)에서 입력에 매칭되는 장소 이름과 Place ID를 반환합니다.<br>" +
+                    "색인에 없을 때만 Google 검색으로 폴백하며, 폴백 결과는 색인에 추가됩니다."
     )
     @GetMapping("/autocomplete")
     public ResponseEntity<CommonResponse<List<PredictionProjection>>> getAutocomplete(
@@ -80,14 +83,18 @@ public class PlaceController {
                     로컬(DB) 리뷰와 Google 리뷰를 합쳐 반환합니다.
                     로컬 리뷰 항목에는 isMine 플래그가 포함되어 로그인 사용자의 리뷰 여부를 구분할 수 있습니다.
                     비로그인 호출도 가능합니다.
+                    로컬 리뷰는 최신순 커서 페이지네이션입니다. 응답의 `nextCursor`를 `cursor`로 넘기면 다음 페이지를,
+                    `nextCursor`가 null이면 마지막 페이지입니다. Google 리뷰는 첫 페이지에만 포함됩니다.
+                    Google 리뷰/평점은 서버 캐시에서 제공되며 `googleDataAgeSeconds`는 그 데이터의 경과 시간(초)입니다.
+                    캐시에 아직 없으면 Google 리뷰 없이 응답하고(`googleDataAgeSeconds` null) 백그라운드로 채웁니다.
                     """)
     @GetMapping("/{placeId}/reviews")
     public ResponseEntity<CommonResponse<ReviewListResponse>> getCombinedReviews(
             @PathVariable String placeId,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit,
+            @RequestParam(required = false) String cursor
     ) {
-        ReviewService.AvatarResolver avatar = (memberId) -> null; // TODO: 회원 프로필 URL 리졸버
-        var dto = reviewService.getCombinedReviews(placeId, limit, false, avatar);
+        var dto = reviewService.getCombinedReviews(placeId, limit, cursor, false, avatarResolver::resolveAll);
         return ResponseEntity.ok(CommonResponse.onSuccess(dto));
     }
 
@@ -10,7 +10,10 @@ public class ReviewListResponse {
     private String placeId;
     private Double rating;          // 평균 별점
     private Integer reviewCount;    // 전체 리뷰 수
+    private List<Long> ratingHistogram; // 로컬 리뷰 별점 분포 [1점, 2점, 3점, 4점, 5점] (로컬 목록에서만)
     private List<Review> reviews;   // 상위 N개
+    private String nextCursor;      // 다음 페이지 커서 (마지막 페이지면 null)
+    private Long googleDataAgeSeconds; // Google 리뷰/평점 조회 후 경과 초 (아직 캐시에 없으면 null)
 
     @Getter
     @Builder
@@ -0,0 +1,48 @@
+package com.dobongzip.dobong.domain.map.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장소별 로컬 리뷰 집계 (place_review 의 비정규화 사본)
+ * - 리뷰 작성/수정/삭제 트랜잭션 안에서 증감으로 갱신 — PlaceReviewStats
+ * - star1~star5: 별점 분포 (정수 부분 기준, 1 미만은 1점, 5 이상은 5점 칸)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "place_review_stat")
+public class PlaceReviewStat {
+
+    @Id
+    @Column(name = "place_id", length = 100, nullable = false, updatable = false)
+    private String placeId;
+
+    @Column(name = "rating_sum", nullable = false)
+    private double ratingSum;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "star1", nullable = false)
+    private long star1;
+
+    @Column(name = "star2", nullable = false)
+    private long star2;
+
+    @Column(name = "star3", nullable = false)
+    private long star3;
+
+    @Column(name = "star4", nullable = false)
+    private long star4;
+
+    @Column(name = "star5", nullable = false)
+    private long star5;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
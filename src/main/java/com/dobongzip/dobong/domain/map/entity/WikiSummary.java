@@ -0,0 +1,36 @@
+package com.dobongzip.dobong.domain.map.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장소별 Wikipedia 요약 (영속 캐시)
+ * - 키: 이름 + 좌표(소수 3자리, 약 100m) — WikiSummaryStore.keyOf
+ * - summary 가 null 이면 '문서 없음' 확인 결과 (음성 캐시)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "wiki_summary")
+public class WikiSummary {
+
+    @Id
+    @Column(name = "summary_key", length = 255, nullable = false, updatable = false)
+    private String key;
+
+    @Column(name = "summary", columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    public WikiSummary(String key, String summary, LocalDateTime fetchedAt) {
+        this.key = key;
+        this.summary = summary;
+        this.fetchedAt = fetchedAt;
+    }
+}
@@ -6,29 +6,38 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface PlaceReviewRepository extends JpaRepository<PlaceReview, Long> {
 
+    /**
+     * 목록 행 프로젝션 — r.author.id 는 FK 컬럼(user_id)으로 바로 읽힘 (app_user 조인/User 로딩 없음)
+     * 첫 페이지 — ix_place_review_place(place_id, deleted, created_at [, id]) 순서 그대로
+     */
     @Query("""
-      select r from PlaceReview r
+      select new com.dobongzip.dobong.domain.map.repository.PlaceReviewRow(
+        r.id, r.author.id, r.authorName, r.rating, r.text, r.createdAt)
+      from PlaceReview r
       where r.placeId = :placeId and r.deleted = false
-      order by r.createdAt desc
+      order by r.createdAt desc, r.id desc
     """)
-    List<PlaceReview> findRecentByPlace(@Param("placeId") String placeId, Pageable pageable);
+    List<PlaceReviewRow> findRecentByPlace(@Param("placeId") String placeId, Pageable pageable);
 
+    /** 다음 페이지 — 커서(마지막 항목) 뒤부터. 깊이와 무관하게 인덱스 범위 탐색 1회 */
     @Query("""
-      select avg(r.rating) from PlaceReview r
+      select new com.dobongzip.dobong.domain.map.repository.PlaceReviewRow(
+        r.id, r.author.id, r.authorName, r.rating, r.text, r.createdAt)
+      from PlaceReview r
       where r.placeId = :placeId and r.deleted = false
+        and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+      order by r.createdAt desc, r.id desc
     """)
-    Double avgRating(@Param("placeId") String placeId);
-
-    @Query("""
-      select count(r) from PlaceReview r
-      where r.placeId = :placeId and r.deleted = false
-    """)
-    long countByPlace(@Param("placeId") String placeId);
+    List<PlaceReviewRow> findRecentByPlaceAfter(@Param("placeId") String placeId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
 
     Optional<PlaceReview> findByIdAndDeletedFalse(Long id);
 
@@ -0,0 +1,16 @@
+package com.dobongzip.dobong.domain.map.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 목록 읽기 전용 행 (JPQL 생성자 프로젝션)
+ * - 목록에 필요한 컬럼 + 작성자 user_id(FK 컬럼)만 한 번의 select 로
+ * - 엔티티가 아니므로 영속성 컨텍스트 적재/변경 감지/User 프록시 없음
+ */
+public record PlaceReviewRow(Long id,
+                             Long authorId,
+                             String authorName,
+                             Double rating,
+                             String text,
+                             LocalDateTime createdAt) {
+}
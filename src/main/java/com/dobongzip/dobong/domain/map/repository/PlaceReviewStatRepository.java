@@ -0,0 +1,7 @@
+package com.dobongzip.dobong.domain.map.repository;
+
+import com.dobongzip.dobong.domain.map.entity.PlaceReviewStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PlaceReviewStatRepository extends JpaRepository<PlaceReviewStat, String> {
+}
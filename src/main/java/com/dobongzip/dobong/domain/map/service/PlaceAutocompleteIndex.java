@@ -0,0 +1,305 @@
+package com.dobongzip.dobong.domain.map.service;
+
+import com.dobongzip.dobong.domain.map.client.GooglePlacesClientV1;
+import com.dobongzip.dobong.domain.map.dto.response.PlacesV1SearchTextResponse;
+import com.dobongzip.dobong.global.http.CallPriority;
+import com.dobongzip.dobong.domain.map.dto.response.PredictionProjection;
+import com.dobongzip.dobong.domain.map.entity.PlaceStat;
+import com.dobongzip.dobong.domain.map.repository.PlaceStatRepository;
+import com.dobongzip.dobong.domain.map.util.HangulJamo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 장소 자동완성 로컬 색인
+ * - 카탈로그: 핫플레이스(nh.json) + 도봉 명소 검색 결과 + Google 폴백에서 학습한 장소
+ * - 이름을 자모 단위로 분해해 bigram 역색인 (입력 중인 음절도 매칭), 자음만 입력하면 초성 색인 사용
+ * - 정렬: 이름 접두 일치 → 이름 포함 → 주소 포함, 같은 순위는 조회수(PlaceStat) 순
+ * - 주기 갱신 (app.places.autocomplete.refresh-interval-ms), 조회는 불변 스냅샷만 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceAutocompleteIndex {
+
+    /** 폴백 학습 상한 (무한 증가 방지) */
+    private static final int MAX_LEARNED = 2000;
+    private static final int POPULARITY_TOP = 1000;
+
+    @Value("classpath:hotplace/nh.json")
+    private Resource hotPlaceResource;
+
+    private final GooglePlacesClientV1 v1;
+    private final PlaceStatRepository placeStatRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Candidate> learned = new ConcurrentHashMap<>();
+    private volatile List<Candidate> baseCatalog = List.of();
+    private volatile Map<String, Long> popularity = Map.of();
+    private volatile Index index = Index.EMPTY;
+
+    /** 색인 대상 장소 */
+    public record Candidate(String placeId, String name, String address) {}
+
+    /** 응답 항목 (기존 PredictionProjection 형태 유지: placeId, name) */
+    public record Suggestion(String placeId, String name) implements PredictionProjection {
+        @Override public String getPlaceId() { return placeId; }
+        @Override public String getName() { return name; }
+    }
+
+    /** 로컬 색인 검색 (미스면 빈 리스트) */
+    public List<PredictionProjection> search(String query, int limit) {
+        if (query == null || query.isBlank()) return List.of();
+        return index.search(query, limit);
+    }
+
+    /** 현재 색인 크기 */
+    public int size() {
+        return index.size();
+    }
+
+    /** Google 폴백 결과 학습 → 다음 같은 입력부터 로컬에서 응답 */
+    public void learn(Collection<Candidate> found) {
+        boolean added = false;
+        for (Candidate c : found) {
+            if (c.placeId() == null || c.name() == null) continue;
+            if (learned.size() >= MAX_LEARNED) break;
+            if (learned.putIfAbsent(c.placeId(), c) == null) added = true;
+        }
+        if (added) rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("[Autocomplete] warm-up failed, Google fallback only until next refresh", e);
+        }
+    }
+
+    /** 주기 갱신 (기본 1시간) — 소스별 실패는 이전 값 유지 */
+    @Scheduled(fixedDelayString = "${app.places.autocomplete.refresh-interval-ms:3600000}",
+            initialDelayString = "${app.places.autocomplete.refresh-interval-ms:3600000}")
+    public void refresh() {
+        List<Candidate> base = new ArrayList<>();
+        base.addAll(loadHotPlaces());
+        base.addAll(loadAttractions());
+        if (!base.isEmpty()) baseCatalog = List.copyOf(base);
+
+        try {
+            popularity = loadPopularity();
+        } catch (Exception e) {
+            log.warn("[Autocomplete] popularity load failed, keep previous | {}", e.toString());
+        }
+        rebuild();
+    }
+
+    private synchronized void rebuild() {
+        Map<String, Candidate> merged = new LinkedHashMap<>();
+        for (Candidate c : baseCatalog) merged.putIfAbsent(c.placeId(), c);
+        for (Candidate c : learned.values()) merged.putIfAbsent(c.placeId(), c);
+
+        index = Index.build(new ArrayList<>(merged.values()), popularity);
+        log.debug("[Autocomplete] index rebuilt size={}", index.size());
+    }
+
+    private List<Candidate> loadHotPlaces() {
+        List<Candidate> out = new ArrayList<>();
+        try {
+            JsonNode data = objectMapper.readTree(hotPlaceResource.getInputStream()).path("data");
+            for (JsonNode n : data) {
+                String id = n.path("placeId").asText(null);
+                String name = n.path("name").asText(null);
+                if (id == null || name == null) continue;
+                out.add(new Candidate(id, name, n.path("address").asText(null)));
+            }
+        } catch (Exception e) {
+            log.warn("[Autocomplete] hotplace load failed | {}", e.toString());
+        }
+        return out;
+    }
+
+    private List<Candidate> loadAttractions() {
+        List<Candidate> out = new ArrayList<>();
+        try {
+            PlacesV1SearchTextResponse res = CallPriority.background(v1::searchDobongAttractions);
+            if (res == null || res.getPlaces() == null) return out;
+            for (var p : res.getPlaces()) {
+                if (p.getId() == null || p.getDisplayName() == null || p.getDisplayName().getText() == null) continue;
+                out.add(new Candidate(p.getId(), p.getDisplayName().getText(), p.getFormattedAddress()));
+            }
+        } catch (Exception e) {
+            log.warn("[Autocomplete] attractions load failed | {}", e.toString());
+        }
+        return out;
+    }
+
+    private Map<String, Long> loadPopularity() {
+        Map<String, Long> out = new HashMap<>();
+        for (PlaceStat s : placeStatRepository.findTop(PageRequest.of(0, POPULARITY_TOP)).getContent()) {
+            out.put(s.getPlaceId(), s.getViewCount());
+        }
+        return out;
+    }
+
+    // ───────────────────────── 색인 ─────────────────────────
+
+    /** 불변 색인 스냅샷 */
+    static final class Index {
+
+        static final Index EMPTY = build(List.of(), Map.of());
+
+        private static final int RANK_NAME_PREFIX = 0;
+        private static final int RANK_NAME_CONTAINS = 1;
+        private static final int RANK_ADDRESS = 2;
+
+        private final String[] ids;
+        private final String[] names;
+        private final String[] nameKeys;  // 자모 분해
+        private final String[] choKeys;   // 초성
+        private final String[] addrKeys;  // 자모 분해
+        private final long[] views;
+
+        private final Map<String, int[]> nameGrams;
+        private final Map<String, int[]> choGrams;
+        private final Map<Character, int[]> nameFirst;
+        private final Map<Character, int[]> choFirst;
+
+        private Index(List<Candidate> items, Map<String, Long> popularity) {
+            int n = items.size();
+            ids = new String[n];
+            names = new String[n];
+            nameKeys = new String[n];
+            choKeys = new String[n];
+            addrKeys = new String[n];
+            views = new long[n];
+
+            Map<String, List<Integer>> ng = new HashMap<>();
+            Map<String, List<Integer>> cg = new HashMap<>();
+            Map<Character, List<Integer>> nf = new HashMap<>();
+            Map<Character, List<Integer>> cf = new HashMap<>();
+
+            for (int i = 0; i < n; i++) {
+                Candidate c = items.get(i);
+                ids[i] = c.placeId();
+                names[i] = c.name();
+                nameKeys[i] = HangulJamo.decompose(c.name());
+                choKeys[i] = HangulJamo.choseong(c.name());
+                addrKeys[i] = HangulJamo.decompose(c.address());
+                views[i] = popularity.getOrDefault(c.placeId(), 0L);
+
+                addGrams(ng, nameKeys[i], i);
+                addGrams(cg, choKeys[i], i);
+                if (!nameKeys[i].isEmpty()) post(nf, nameKeys[i].charAt(0), i);
+                if (!choKeys[i].isEmpty()) post(cf, choKeys[i].charAt(0), i);
+            }
+            nameGrams = freeze(ng);
+            choGrams = freeze(cg);
+            nameFirst = freeze(nf);
+            choFirst = freeze(cf);
+        }
+
+        static Index build(List<Candidate> items, Map<String, Long> popularity) {
+            return new Index(items, popularity);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        List<PredictionProjection> search(String query, int limit) {
+            boolean choOnly = HangulJamo.isChoseongOnly(query);
+            String q = choOnly ? HangulJamo.choseong(query) : HangulJamo.decompose(query);
+            if (q.isEmpty()) return List.of();
+
+            String[] keys = choOnly ? choKeys : nameKeys;
+            int[] cand = choOnly ? candidates(choGrams, choFirst, q) : candidates(nameGrams, nameFirst, q);
+
+            int[] rank = new int[ids.length];
+            Arrays.fill(rank, -1);
+            List<Integer> hits = new ArrayList<>();
+            for (int i : cand) {
+                int pos = keys[i].indexOf(q);
+                if (pos < 0) continue;
+                rank[i] = (pos == 0) ? RANK_NAME_PREFIX : RANK_NAME_CONTAINS;
+                hits.add(i);
+            }
+
+            // 이름으로 부족하면 주소 포함까지 (도봉 장소 수백 건 규모라 선형 확인으로 충분)
+            if (!choOnly && hits.size() < limit) {
+                for (int i = 0; i < addrKeys.length; i++) {
+                    if (rank[i] >= 0 || !addrKeys[i].contains(q)) continue;
+                    rank[i] = RANK_ADDRESS;
+                    hits.add(i);
+                }
+            }
+
+            hits.sort(Comparator.<Integer>comparingInt(i -> rank[i])
+                    .thenComparing(i -> views[i], Comparator.reverseOrder())
+                    .thenComparingInt(i -> names[i].length()));
+
+            List<PredictionProjection> out = new ArrayList<>(Math.min(limit, hits.size()));
+            for (int i = 0; i < hits.size() && out.size() < limit; i++) {
+                int k = hits.get(i);
+                out.add(new Suggestion(ids[k], names[k]));
+            }
+            return out;
+        }
+
+        /** 한 글자(자모)는 첫 글자 색인, 그 이상은 bigram 게시 목록 교집합 */
+        private static int[] candidates(Map<String, int[]> grams, Map<Character, int[]> first, String q) {
+            if (q.length() == 1) return first.getOrDefault(q.charAt(0), new int[0]);
+
+            int[] acc = null;
+            for (int i = 0; i + 1 < q.length(); i++) {
+                int[] p = grams.get(q.substring(i, i + 2));
+                if (p == null) return new int[0];
+                acc = (acc == null) ? p : intersect(acc, p);
+                if (acc.length == 0) break;
+            }
+            return acc;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0, j = 0, k = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) i++;
+                else if (a[i] > b[j]) j++;
+                else { out[k++] = a[i]; i++; j++; }
+            }
+            return Arrays.copyOf(out, k);
+        }
+
+        private static void addGrams(Map<String, List<Integer>> grams, String key, int no) {
+            for (int i = 0; i + 1 < key.length(); i++) post(grams, key.substring(i, i + 2), no);
+        }
+
+        /** 게시 목록에 no 추가 (번호 오름차순으로만 들어오므로 끝만 보고 중복 제거) */
+        private static <K> void post(Map<K, List<Integer>> postings, K key, int no) {
+            List<Integer> list = postings.computeIfAbsent(key, k -> new ArrayList<>());
+            if (list.isEmpty() || list.get(list.size() - 1) != no) list.add(no);
+        }
+
+        private static <K> Map<K, int[]> freeze(Map<K, List<Integer>> src) {
+            Map<K, int[]> out = new HashMap<>(src.size() * 2);
+            for (var e : src.entrySet()) {
+                out.put(e.getKey(), e.getValue().stream().mapToInt(Integer::intValue).toArray());
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.dobongzip.dobong.domain.map.service;
+
+import com.dobongzip.dobong.domain.map.cache.PlaceFieldGroup;
+import com.dobongzip.dobong.domain.map.client.GooglePlacesClientV1;
+import com.dobongzip.dobong.domain.map.dto.response.PlacesV1PlaceDetailsResponse;
+import com.dobongzip.dobong.global.http.CallPriority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 목록 카드 상세 보강 병렬 실행기 (카드에 쓰는 전화번호/소개 묶음만 — 검색 결과로 채워진 묶음은 재요청 없음)
+ * - 비동기 Places API 로 동시에 조회 → 응답을 기다리는 동안 스레드를 잡지 않음 (호출 스레드만 결과를 기다림)
+ * - 동시 호출 수 제한 (app.places.enrich.parallelism)
+ * - 호출별 타임아웃 (app.places.enrich.call-timeout-ms) — 대기열이 아니라 실제 호출 시작부터 잼,
+ *   넘기면 구독 취소 → 같은 호출을 기다리는 다른 쪽이 없으면 HTTP 요청도 취소
+ * - 전체 데드라인 (app.places.enrich.timeout-ms) → 늦은 항목은 빠진 채로 부분 결과 반환
+ * - 보강 호출은 background 우선순위 → Places 호출량이 빠듯하면 상세 화면 조회에 양보하고 빠짐
+ */
+@Slf4j
+@Component
+public class PlaceDetailEnricher {
+
+    private static final Set<PlaceFieldGroup> CARD_GROUPS = Set.of(PlaceFieldGroup.SUMMARY, PlaceFieldGroup.CONTACT);
+
+    private final GooglePlacesClientV1 v1;
+    private final int parallelism;
+    private final Duration callTimeout;
+    private final Duration timeout;
+
+    public PlaceDetailEnricher(GooglePlacesClientV1 v1,
+                               @Value("${app.places.enrich.parallelism:8}") int parallelism,
+                               @Value("${app.places.enrich.call-timeout-ms:1500}") long callTimeoutMs,
+                               @Value("${app.places.enrich.timeout-ms:2500}") long timeoutMs) {
+        this.v1 = v1;
+        this.parallelism = Math.max(1, parallelism);
+        this.callTimeout = Duration.ofMillis(callTimeoutMs);
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    /**
+     * placeId 별 상세를 병렬 조회. 실패/타임아웃 항목은 결과 맵에서 빠짐.
+     * 호출마다 call-timeout, 전체 대기 시간은 timeout 으로 묶임
+     */
+    public Map<String, PlacesV1PlaceDetailsResponse> fetchAll(List<String> placeIds) {
+        List<String> ids = placeIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) return Map.of();
+
+        Map<String, PlacesV1PlaceDetailsResponse> out = fetchAllAsync(ids).block();
+        if (out == null) out = Map.of();
+        if (out.size() < ids.size()) {
+            log.info("[PlaceDetailEnricher] partial result {}/{}", out.size(), ids.size());
+        }
+        return out;
+    }
+
+    /** 비동기 버전 — 데드라인까지 도착한 항목만 담아 완료 */
+    public Mono<Map<String, PlacesV1PlaceDetailsResponse>> fetchAllAsync(List<String> placeIds) {
+        return Flux.fromIterable(placeIds)
+                .flatMap(id -> CallPriority.background(v1.fetchPlaceAsync(id, CARD_GROUPS))
+                                .timeout(callTimeout)
+                                .map(d -> Map.entry(id, d))
+                                .onErrorResume(ex -> {
+                                    log.warn("[PlaceDetailEnricher] detail failed placeId={} | {}", id, ex.toString());
+                                    return Mono.empty();
+                                }),
+                        parallelism)
+                .take(timeout)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+}
@@ -0,0 +1,161 @@
+package com.dobongzip.dobong.domain.map.service;
+
+import com.dobongzip.dobong.domain.map.entity.PlaceReviewStat;
+import com.dobongzip.dobong.domain.map.repository.PlaceReviewStatRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 장소별 로컬 리뷰 집계 (합계/개수/별점 분포)
+ * - 목록 헤더 통계는 place_review_stat 한 행(또는 캐시)만 읽음 → place_review 에 AVG/COUNT 없음
+ * - 리뷰 변경 트랜잭션 안에서 prepare(변경 전) → 변경 → apply(증감) 순으로 호출
+ *   · prepare: 집계 행이 없으면 현재 리뷰로 만들어 둠 (기존 리뷰 이관, insert ignore 라 동시 호출에도 한 번만)
+ *   · apply: 행 잠금 update 로 증감 반영 (동시 변경에도 유실 없음)
+ * - 행이 아직 없는 장소(리뷰 변경이 한 번도 없었던 장소)는 place_review 에서 직접 집계
+ * - 캐시는 짧은 TTL + 커밋 후 무효화 (app.reviews.stat-cache-ttl)
+ */
+@Slf4j
+@Component
+public class PlaceReviewStats {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /** 별점 → 분포 칸(1~5) — Java/SQL 같은 규칙 */
+    private static final String STAR_BUCKET = "least(greatest(floor(rating), 1), 5)";
+
+    private static final String AGGREGATE_COLUMNS =
+            "coalesce(sum(rating), 0), count(*), " +
+            "coalesce(sum(case when " + STAR_BUCKET + " = 1 then 1 else 0 end), 0), " +
+            "coalesce(sum(case when " + STAR_BUCKET + " = 2 then 1 else 0 end), 0), " +
+            "coalesce(sum(case when " + STAR_BUCKET + " = 3 then 1 else 0 end), 0), " +
+            "coalesce(sum(case when " + STAR_BUCKET + " = 4 then 1 else 0 end), 0), " +
+            "coalesce(sum(case when " + STAR_BUCKET + " = 5 then 1 else 0 end), 0)";
+
+    private static final String AGGREGATE_SQL =
+            "select " + AGGREGATE_COLUMNS + " from place_review where place_id = ? and deleted = false";
+
+    private static final String SEED_SQL =
+            "insert ignore into place_review_stat " +
+            "(place_id, rating_sum, review_count, star1, star2, star3, star4, star5, updated_at) " +
+            "select ?, " + AGGREGATE_COLUMNS + ", ? from place_review where place_id = ? and deleted = false";
+
+    private static final String DELTA_SQL =
+            "update place_review_stat set rating_sum = rating_sum + ?, review_count = review_count + ?, " +
+            "star1 = star1 + ?, star2 = star2 + ?, star3 = star3 + ?, star4 = star4 + ?, star5 = star5 + ?, " +
+            "updated_at = ? where place_id = ?";
+
+    private final PlaceReviewStatRepository statRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Summary> cache;
+
+    /** 집계 값 — histogram[0..4] = 1~5점 개수 */
+    public record Summary(double ratingSum, long count, long[] histogram) {
+        static final Summary EMPTY = new Summary(0, 0, new long[5]);
+
+        /** 평균 별점 (리뷰 없으면 null) */
+        public Double average() {
+            return count == 0 ? null : ratingSum / count;
+        }
+    }
+
+    public PlaceReviewStats(PlaceReviewStatRepository statRepository,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${app.reviews.stat-cache-ttl:30s}") Duration cacheTtl,
+                            MeterRegistry registry) {
+        this.statRepository = statRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "reviews.stat");
+    }
+
+    /** 헤더 통계 (캐시 → 집계 행 → 없으면 place_review 직접 집계) */
+    public Summary get(String placeId) {
+        return cache.get(placeId, this::load);
+    }
+
+    /** 리뷰 변경 전 호출 — 집계 행이 없으면 현재(변경 전) 리뷰로 만들어 둠 */
+    public void prepare(String placeId) {
+        jdbcTemplate.update(SEED_SQL, placeId, Timestamp.valueOf(LocalDateTime.now(KST)), placeId);
+    }
+
+    /**
+     * 리뷰 변경 후 호출 — 증감 반영
+     * @param removed 빠진 별점 (삭제/수정 전 값, 없으면 null)
+     * @param added   더해진 별점 (작성/수정 후 값, 없으면 null)
+     */
+    public void apply(String placeId, Double removed, Double added) {
+        double sumDelta = 0;
+        long countDelta = 0;
+        long[] hist = new long[5];
+        if (removed != null) {
+            sumDelta -= removed;
+            countDelta--;
+            hist[bucketOf(removed)]--;
+        }
+        if (added != null) {
+            sumDelta += added;
+            countDelta++;
+            hist[bucketOf(added)]++;
+        }
+
+        int updated = jdbcTemplate.update(DELTA_SQL, sumDelta, countDelta,
+                hist[0], hist[1], hist[2], hist[3], hist[4],
+                Timestamp.valueOf(LocalDateTime.now(KST)), placeId);
+        if (updated == 0) {
+            // prepare 누락 — 행이 없으면 조회는 place_review 직접 집계, 다음 변경의 prepare 가 다시 만듦
+            log.warn("[PlaceReviewStats] no stat row for placeId={}", placeId);
+        }
+        evictAfterCommit(placeId);
+    }
+
+    // ───────────────────────── 내부 ─────────────────────────
+
+    private Summary load(String placeId) {
+        return statRepository.findById(placeId)
+                .map(s -> new Summary(s.getRatingSum(), s.getReviewCount(),
+                        new long[]{s.getStar1(), s.getStar2(), s.getStar3(), s.getStar4(), s.getStar5()}))
+                .orElseGet(() -> aggregate(placeId));
+    }
+
+    private Summary aggregate(String placeId) {
+        Summary s = jdbcTemplate.queryForObject(AGGREGATE_SQL, (rs, i) -> new Summary(
+                rs.getDouble(1), rs.getLong(2),
+                new long[]{rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getLong(7)}), placeId);
+        return s != null ? s : Summary.EMPTY;
+    }
+
+    /** 별점 → 분포 칸 번호(0~4), STAR_BUCKET 과 같은 규칙 */
+    static int bucketOf(double rating) {
+        return (int) Math.max(1, Math.min(5, Math.floor(rating))) - 1;
+    }
+
+    private void evictAfterCommit(String placeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(placeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidate(placeId);
+            }
+        });
+    }
+}
@@ -2,20 +2,14 @@ package com.dobongzip.dobong.domain.map.service;
 
 import com.dobongzip.dobong.domain.like.service.LikeService;
 import com.dobongzip.dobong.domain.map.client.GooglePlacesClientV1;
-import com.dobongzip.dobong.domain.map.client.WikipediaClient;
 import com.dobongzip.dobong.domain.map.dto.response.*;
-import com.dobongzip.dobong.domain.map.entity.PlaceStat;
-import com.dobongzip.dobong.domain.map.repository.PlaceStatRepository;
 import com.dobongzip.dobong.domain.map.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -24,11 +18,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PlaceService {
     private final GooglePlacesClientV1 v1;
-    private final WikipediaClient wikipedia;
+    private final WikiSummaryStore wikiSummaryStore;
     private final LikeService likeService;
-    private final PlaceStatRepository placeStatRepository;
+    private final PlaceDetailEnricher placeDetailEnricher;
+    private final PlaceAutocompleteIndex autocompleteIndex;
+    private final PlaceViewCounter placeViewCounter;
+    private final TopPlaceLeaderboard topPlaceLeaderboard;
     private static final Logger log = LoggerFactory.getLogger(PlaceService.class);
-    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int AUTOCOMPLETE_LIMIT = 20;
 
 
     @Transactional(readOnly = true)
@@ -37,7 +34,13 @@ public class PlaceService {
             return Collections.emptyList();
         }
 
-        //  1. V1 클라이언트의 동적 검색 메서드를 호출합니다.
+        //  0. 로컬 색인 우선 (외부 호출 없음)
+        List<PredictionProjection> local = autocompleteIndex.search(query, AUTOCOMPLETE_LIMIT);
+        if (!local.isEmpty()) {
+            return local;
+        }
+
+        //  1. 로컬 미스 → V1 클라이언트의 동적 검색 메서드를 호출합니다.
         PlacesV1SearchTextResponse res = v1.searchPlacesByQuery(query);
 
         if (res == null || res.getPlaces() == null || res.getPlaces().isEmpty()) {
@@ -71,8 +74,14 @@ public class PlaceService {
                     @Override public String getPlaceId() { return p.getPlaceId(); }
                     @Override public String getName() { return p.getName(); }
                 })
+                .limit(AUTOCOMPLETE_LIMIT)
                 .collect(Collectors.toList());
 
+        // 4. 폴백 결과는 색인에 학습 → 다음부터 로컬에서 응답
+        autocompleteIndex.learn(dobongPlaces.stream()
+                .map(p -> new PlaceAutocompleteIndex.Candidate(p.getPlaceId(), p.getName(), p.getAddress()))
+                .toList());
+
         return filteredResults;
     }
     public List<PlaceDto> findDobongAttractions(double userLat, double userLng, int limit) {
@@ -123,9 +132,13 @@ public class PlaceService {
                 .limit(Math.max(1, limit))
                 .toList();
 
+        // 상세는 병렬 조회 (타임아웃/실패 항목은 카드 정보만으로 채움)
+        var detailsById = placeDetailEnricher.fetchAll(
+                primaries.stream().map(PlaceDto::getPlaceId).toList());
+
         List<PlaceDto> enriched = new ArrayList<>(primaries.size());
         for (PlaceDto base : primaries) {
-            var details = v1.fetchPlaceDetails(base.getPlaceId());
+            var details = detailsById.get(base.getPlaceId());
 
             String phone = null;
             String desc  = base.getDescription(); // 카드에서 이미 있으면 유지(목록은 위키 미사용)
@@ -148,16 +161,16 @@ public class PlaceService {
     }
 
     public PlaceDetailsResponse getPlaceDetail(String placeId) {
-        bumpView(placeId);
         var d = v1.fetchPlaceDetails(placeId);
         if (d == null) return null;
+        bumpView(placeId); // 상세 조회에 성공한 장소만 집계
 
         String name = d.getDisplayName() != null ? d.getDisplayName().getText() : null;
         Double lat = (d.getLocation() != null) ? d.getLocation().getLatitude() : null;
         Double lng = (d.getLocation() != null) ? d.getLocation().getLongitude() : null;
 
-        // 1) Wikipedia 우선
-        String desc = wikipedia.getSummary(name, lat, lng).orElse(null);
+        // 1) Wikipedia 우선 (저장된 요약 — 아는 장소는 외부 호출 없음)
+        String desc = wikiSummaryStore.find(name, lat, lng).orElse(null);
 
         // 2) 위키 실패 → Google 소개 중 "문단형"만 사용 (addressDescriptor는 제외!)
         if (!nonEmpty(desc)) {
@@ -190,90 +203,39 @@ public class PlaceService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
     public List<TopPlaceDto> getTopPlaces(double userLat, double userLng, int limit) {
         int n = Math.max(1, Math.min(limit, 10)); // 최대 10개, 최소 1개
 
-        // 1. DB에서 인기 장소 통계 조회
-        var stats = placeStatRepository.findTop(PageRequest.of(0, n)).getContent();
-
-        List<TopPlaceDto> out = new ArrayList<>();
-
-        // 2. DB에서 가져온 각 장소를 순회하며 Google API로 상세 정보 조회
-        for (PlaceStat s : stats) {
-            String placeId = s.getPlaceId(); // (로그용)
-
-            try {
-                // [핵심] try 블록 시작 (API 호출 전체를 감싼다)
-
-                // 3. (실패 지점 1) Google API로 장소 상세 정보 호출
-                var d = v1.fetchPlaceDetails(placeId);
-
-                // API 호출이 예외를 던지지 않았더라도, 응답이 비어있을 수 있음
-                if (d == null || d.getLocation() == null) {
-                    log.warn("[getTopPlaces] Google API 응답이 null이거나 위치 정보가 없습니다. (placeId: {})", placeId);
-                    continue; // 이 항목을 건너뛰고 다음 루프로 이동
-                }
-
-                // --- (여기부터는 d가 정상일 때만 실행됨) ---
-                double lat = d.getLocation().getLatitude();
-                double lng = d.getLocation().getLongitude();
-
-                // 4. 거리 계산
-                long distInMeters = GeoUtils.haversineMeters(userLat, userLng, lat, lng);
-                double distInKm = distInMeters / 1000.0;
-                distInKm = Math.round(distInKm * 100.0) / 100.0;
-
-                // 5. 사진 URL, 전화번호 추출
-                String photoName = (d.getPhotos() != null && !d.getPhotos().isEmpty())
-                        ? d.getPhotos().get(0).getName() : null;
-                String phone = firstNonNull(d.getInternationalPhoneNumber(), d.getNationalPhoneNumber());
-
-                // 6. (실패 지점 2) Google API로 사진 URL 빌드
-                String imageUrl = v1.buildPhotoUrl(photoName, 800);
-
-                // 7. 최종 DTO에 추가
-                out.add(TopPlaceDto.builder()
-                        .placeId(d.getId())
-                        .name(d.getDisplayName() != null ? d.getDisplayName().getText() : null)
-                        .address(d.getFormattedAddress())
-                        .latitude(lat)
-                        .longitude(lng)
-                        .distance(distInKm)
-                        .distanceText(GeoUtils.formatDistance(distInMeters))
-                        .imageUrl(imageUrl)
-                        .phone(phone)
-                        .rating(d.getRating())
-                        .reviewCount(d.getUserRatingCount())
-                        .build());
-
-            } catch (Exception e) {
-                log.error("[getTopPlaces] 'Top 장소' 처리 중 예외 발생 (placeId: {}) | 에러: {}",
-                        placeId, e.getMessage());
-            }
+        // 카드는 TopPlaceLeaderboard 가 미리 만들어 둠 → 요청마다 거리 계산만
+        List<TopPlaceDto> out = new ArrayList<>(n);
+        for (TopPlaceLeaderboard.Card c : topPlaceLeaderboard.top(n)) {
+            long distInMeters = GeoUtils.haversineMeters(userLat, userLng, c.latitude(), c.longitude());
+            double distInKm = Math.round(distInMeters / 1000.0 * 100.0) / 100.0;
+
+            out.add(TopPlaceDto.builder()
+                    .placeId(c.placeId())
+                    .name(c.name())
+                    .address(c.address())
+                    .latitude(c.latitude())
+                    .longitude(c.longitude())
+                    .distance(distInKm)
+                    .distanceText(GeoUtils.formatDistance(distInMeters))
+                    .imageUrl(c.imageUrl())
+                    .phone(c.phone())
+                    .rating(c.rating())
+                    .reviewCount(c.reviewCount())
+                    .build());
         }
-
-        // 8. 성공한 항목들만 리스트로 반환
         return out;
     }
 
 
 
     // --------------------------
-    // 내부: 조회수 +1
+    // 내부: 조회수 +1 (메모리 카운터, DB 반영은 PlaceViewCounter 가 주기적으로)
     // --------------------------
-    @Transactional
-    protected void bumpView(String placeId) {
-        var now = LocalDateTime.now(KST);
-        var stat = placeStatRepository.findById(placeId)
-                .orElse(PlaceStat.builder()
-                        .placeId(placeId)
-                        .viewCount(0)
-                        .lastViewedAt(now)
-                        .build());
-        stat.setViewCount(stat.getViewCount() + 1);
-        stat.setLastViewedAt(now);
-        placeStatRepository.save(stat);
+    private void bumpView(String placeId) {
+        placeViewCounter.increment(placeId);
     }
 
     // ==========================
@@ -0,0 +1,237 @@
+package com.dobongzip.dobong.domain.map.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 장소 조회수 write-behind 카운터
+ * - 상세 조회 시에는 메모리(LongAdder)만 증가 → 요청 경로에 DB 쓰기 없음
+ * - 주기적으로 place_top3 에 일괄 upsert (view_count = view_count + ?) → 동시 증가분 유실 없음
+ * - placeId 형식/길이(place_top3.place_id = 64)가 맞지 않으면 세지 않음
+ * - 일괄 반영 실패 시 행 단위로 다시 반영 → 문제 행만 되돌려 재시도, MAX_ROW_FAILURES 번 실패한 행은 버림
+ *   (DB 연결 장애는 행 문제로 보지 않고 전부 되돌림) / 종료 시 마지막으로 한 번 반영
+ * - 한 주기 동안 조회가 없던 항목은 맵에서 제거 (임의 placeId 로 맵이 계속 커지지 않도록)
+ * - 반영 성공 시 {@link Flushed} 이벤트 발행 (인기 순위 갱신용)
+ * - 지표: places.views.pending (미반영 건수), places.views.flush.lag (마지막 성공 반영 후 경과 초),
+ *         places.views.rejected (형식 오류로 세지 않은 조회), places.views.dropped (반영 포기한 조회수)
+ */
+@Slf4j
+@Component
+public class PlaceViewCounter {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final String UPSERT_SQL =
+            "insert into place_top3 (place_id, view_count, last_viewed_at) values (?, ?, ?) " +
+            "on duplicate key update view_count = view_count + ?, " +
+            "last_viewed_at = greatest(last_viewed_at, ?)";
+
+    /** place_top3.place_id 길이 */
+    static final int MAX_PLACE_ID_LENGTH = 64;
+    /** Google Place ID 문자 (영숫자, -, _) */
+    private static final Pattern PLACE_ID = Pattern.compile("[A-Za-z0-9_-]+");
+    /** 같은 행이 이만큼 연속 실패하면 버림 */
+    static final int MAX_ROW_FAILURES = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter flushFailures;
+    private final Counter rejected;
+    private final Counter dropped;
+
+    /**
+     * placeId → 미반영 증가분
+     * - 제거는 flush 에서만 (한 주기 동안 0 인 항목), 제거와 증가가 겹치면 relocate 로 새 항목에 옮겨 유실 없음
+     */
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private volatile long lastFlushMillis = System.currentTimeMillis();
+
+    /** 조회수 반영 완료 이벤트 */
+    public record Flushed(int places) {}
+
+    private static final class Pending {
+        final LongAdder count = new LongAdder();
+        final LongAccumulator lastViewedMillis = new LongAccumulator(Math::max, 0L);
+        /** 연속 행 반영 실패 횟수 (flush 안에서만 접근) */
+        int failures;
+    }
+
+    /** flush 한 주기의 반영 대상 한 행 */
+    private record Row(String placeId, Pending pending, long delta, Timestamp viewedAt) {
+        Object[] args() { return new Object[]{placeId, delta, viewedAt, delta, viewedAt}; }
+    }
+
+    public PlaceViewCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.flushFailures = Counter.builder("places.views.flush.failures").register(registry);
+        this.rejected = Counter.builder("places.views.rejected").register(registry);
+        this.dropped = Counter.builder("places.views.dropped").register(registry);
+        Gauge.builder("places.views.pending", this, PlaceViewCounter::pendingCount).register(registry);
+        Gauge.builder("places.views.flush.lag", this, c -> (System.currentTimeMillis() - c.lastFlushMillis) / 1000.0)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /** 조회 1건 기록 (메모리만). 형식이 맞지 않는 placeId 는 세지 않음 */
+    public void increment(String placeId) {
+        if (!isValidPlaceId(placeId)) {
+            rejected.increment();
+            return;
+        }
+        Pending p = pending.computeIfAbsent(placeId, k -> new Pending());
+        p.count.increment();
+        p.lastViewedMillis.accumulate(System.currentTimeMillis());
+        // flush 가 그사이 항목을 지웠으면 새 항목으로 옮김
+        if (pending.get(placeId) != p) relocate(placeId, p);
+    }
+
+    static boolean isValidPlaceId(String placeId) {
+        return placeId != null
+                && !placeId.isEmpty()
+                && placeId.length() <= MAX_PLACE_ID_LENGTH
+                && PLACE_ID.matcher(placeId).matches();
+    }
+
+    /** 미반영 조회수 합 */
+    public long pendingCount() {
+        long sum = 0;
+        for (Pending p : pending.values()) sum += p.count.sum();
+        return sum;
+    }
+
+    /** 주기 반영 (기본 5초) */
+    @Scheduled(fixedDelayString = "${app.places.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Row> rows = new ArrayList<>();
+
+        for (var e : pending.entrySet()) {
+            Pending p = e.getValue();
+            long delta = p.count.sumThenReset();
+            if (delta == 0) {
+                // 한 주기 동안 조회 없음 → 제거 (늦게 들어온 증가분은 relocate 가 옮김)
+                if (p.count.sum() == 0 && pending.remove(e.getKey(), p)) relocate(e.getKey(), p);
+                continue;
+            }
+            rows.add(new Row(e.getKey(), p, delta, toKstTimestamp(p.lastViewedMillis.get())));
+        }
+        if (rows.isEmpty()) {
+            lastFlushMillis = System.currentTimeMillis();
+            return;
+        }
+
+        int flushed;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, rows.stream().map(Row::args).toList()));
+            rows.forEach(r -> r.pending().failures = 0);
+            flushed = rows.size();
+        } catch (Exception ex) {
+            flushFailures.increment();
+            log.warn("[PlaceViewCounter] batch flush failed, retrying row by row places={} | {}", rows.size(), ex.toString());
+            flushed = flushRowByRow(rows);
+        }
+        if (flushed == 0) return;
+
+        lastFlushMillis = System.currentTimeMillis();
+        log.debug("[PlaceViewCounter] flushed places={}", flushed);
+        try {
+            eventPublisher.publishEvent(new Flushed(flushed));
+        } catch (Exception ex) {
+            log.warn("[PlaceViewCounter] flushed listener failed | {}", ex.toString());
+        }
+    }
+
+    /**
+     * 일괄 반영이 실패했을 때 — 행마다 따로 반영해 문제 행만 격리
+     * - 행 자체가 거부되면(값 길이/제약 위반 등) 실패 횟수 +1, MAX_ROW_FAILURES 에 닿으면 버림
+     * - 연결 장애 등은 행 문제가 아니므로 남은 행까지 모두 되돌리고 다음 주기에 재시도
+     * @return 반영된 행 수
+     */
+    private int flushRowByRow(List<Row> rows) {
+        int ok = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Row r = rows.get(i);
+            try {
+                jdbcTemplate.update(UPSERT_SQL, r.args());
+                r.pending().failures = 0;
+                ok++;
+            } catch (Exception ex) {
+                if (!isRowProblem(ex)) {
+                    rows.subList(i, rows.size()).forEach(this::putBack);
+                    log.warn("[PlaceViewCounter] flush failed, will retry places={} | {}", rows.size() - i, ex.toString());
+                    break;
+                }
+                if (++r.pending().failures >= MAX_ROW_FAILURES) {
+                    dropped.increment(r.delta());
+                    if (r.pending().count.sum() == 0) pending.remove(r.placeId(), r.pending());
+                    log.warn("[PlaceViewCounter] dropping views placeId={} delta={} after {} failures | {}",
+                            r.placeId(), r.delta(), r.pending().failures, ex.toString());
+                } else {
+                    putBack(r);
+                    log.warn("[PlaceViewCounter] row flush failed placeId={} failures={} | {}",
+                            r.placeId(), r.pending().failures, ex.toString());
+                }
+            }
+        }
+        return ok;
+    }
+
+    /** 행 자체가 거부된 실패인지 (연결/자원 장애는 제외) */
+    private static boolean isRowProblem(Exception ex) {
+        return ex instanceof NonTransientDataAccessException
+                && !(ex instanceof DataAccessResourceFailureException);
+    }
+
+    /** 반영 못 한 증가분을 되돌림 (항목이 그사이 지워졌으면 새 항목으로) */
+    private void putBack(Row r) {
+        r.pending().count.add(r.delta());
+        if (pending.get(r.placeId()) != r.pending()) relocate(r.placeId(), r.pending());
+    }
+
+    /** 맵에서 빠진 항목에 남은 증가분을 현재 항목으로 옮김 */
+    private void relocate(String placeId, Pending stale) {
+        long n = stale.count.sumThenReset();
+        if (n == 0) return;
+        Pending live = pending.computeIfAbsent(placeId, k -> new Pending());
+        live.count.add(n);
+        live.lastViewedMillis.accumulate(stale.lastViewedMillis.get());
+        if (pending.get(placeId) != live) relocate(placeId, live);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        long left = pendingCount();
+        if (left > 0) log.warn("[PlaceViewCounter] {} views not flushed on shutdown", left);
+    }
+
+    private static Timestamp toKstTimestamp(long millis) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), KST));
+    }
+}
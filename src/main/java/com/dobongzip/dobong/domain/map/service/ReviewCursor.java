@@ -0,0 +1,38 @@
+package com.dobongzip.dobong.domain.map.service;
+
+import com.dobongzip.dobong.domain.map.repository.PlaceReviewRow;
+import com.dobongzip.dobong.global.exception.BusinessException;
+import com.dobongzip.dobong.global.response.StatusCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 리뷰 목록 커서 (created_at desc, id desc 정렬의 마지막 항목)
+ * - 클라이언트에는 불투명 문자열(base64url)로만 노출
+ * - created_at 은 DB 정밀도(마이크로초)를 그대로 보존 → 경계 항목 누락/중복 없음
+ */
+public record ReviewCursor(LocalDateTime createdAt, long id) {
+
+    public static ReviewCursor after(PlaceReviewRow last) {
+        return new ReviewCursor(last.createdAt(), last.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 값이면 null (첫 페이지), 형식이 틀리면 INVALID_CURSOR */
+    public static ReviewCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new ReviewCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw BusinessException.of(StatusCode.INVALID_CURSOR);
+        }
+    }
+}
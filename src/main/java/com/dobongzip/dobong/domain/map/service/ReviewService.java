@@ -5,6 +5,7 @@ import com.dobongzip.dobong.domain.map.dto.request.ReviewCreateRequest;
 import com.dobongzip.dobong.domain.map.dto.request.ReviewUpdateRequest;
 import com.dobongzip.dobong.domain.map.dto.response.ReviewListResponse;
 import com.dobongzip.dobong.domain.map.entity.PlaceReview;
+import com.dobongzip.dobong.domain.map.repository.PlaceReviewRow;
 import com.dobongzip.dobong.domain.map.repository.PlaceReviewRepository;
 import com.dobongzip.dobong.domain.user.entity.User;
 import com.dobongzip.dobong.global.exception.BusinessException;
@@ -15,9 +16,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,15 +30,22 @@ public class ReviewService {
 
     private final GooglePlacesClientV1 v1;                 // 구글 리뷰 조회용
     private final PlaceReviewRepository reviewRepository;  // 로컬 리뷰 CRUD용
+    private final PlaceReviewStats reviewStats;            // 로컬 리뷰 집계(평균/개수/분포)
     private final AuthenticatedProvider authenticatedProvider;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     // ========= 조회 =========
 
+    /**
+     * Google 리뷰 (캐시만 읽음 — 요청 스레드에서 Google 호출 없음)
+     * - 캐시에 없거나 오래됐으면 백그라운드로 채움 → 그동안은 빈 목록, 다음 요청부터 포함
+     * - googleDataAgeSeconds: 캐시된 리뷰/평점의 경과 시간
+     */
     @Transactional(readOnly = true)
     public ReviewListResponse getGoogleReviews(String placeId, int limit) {
-        var d = v1.fetchPlaceReviews(placeId);
+        var cached = v1.peekPlaceReviews(placeId);
+        var d = cached.value();
         if (d == null) {
             return ReviewListResponse.builder()
                     .placeId(placeId).rating(null).reviewCount(0)
@@ -59,48 +70,82 @@ public class ReviewService {
                 .rating(d.getRating())
                 .reviewCount(d.getUserRatingCount())
                 .reviews(reviews)
+                .googleDataAgeSeconds(cached.fetchedAt() == null ? null
+                        : Math.max(0, Duration.between(cached.fetchedAt(), Instant.now()).getSeconds()))
                 .build();
     }
 
+    /**
+     * 로컬 리뷰 한 페이지 (최신순, 커서 기반)
+     * - cursor 가 없으면 첫 페이지, 있으면 그 항목 다음부터 — OFFSET 없이 인덱스 범위 탐색이라 깊이와 무관하게 같은 비용
+     * - 한 건 더 읽어 다음 페이지 유무 판단 → nextCursor
+     * - 행은 읽기 전용 프로젝션(PlaceReviewRow) → 리뷰 수와 무관하게 SQL 횟수 고정 (작성자 User 로딩 없음)
+     */
     @Transactional(readOnly = true)
-    public ReviewListResponse getLocalReviews(String placeId, int limit, AvatarResolver avatar) {
+    public ReviewListResponse getLocalReviews(String placeId, int limit, String cursor, AvatarResolver avatar) {
         Long me = authenticatedProvider.currentUserIdOrNull(); // 익명 가능
 
-        var rows = reviewRepository.findRecentByPlace(placeId, PageRequest.of(0, clamp(limit, 1, 50)));
+        int size = clamp(limit, 1, 50);
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        var fetched = (after == null)
+                ? reviewRepository.findRecentByPlace(placeId, PageRequest.of(0, size + 1))
+                : reviewRepository.findRecentByPlaceAfter(placeId, after.createdAt(), after.id(), PageRequest.of(0, size + 1));
+        boolean hasNext = fetched.size() > size;
+        var rows = hasNext ? fetched.subList(0, size) : fetched;
+
+        // 작성자 아바타는 페이지 단위로 한 번에
+        Map<Long, String> photos = (avatar == null || rows.isEmpty())
+                ? Map.of()
+                : avatar.photoUrlsFor(rows.stream()
+                        .map(PlaceReviewRow::authorId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()));
 
         var list = rows.stream()
                 .map(r -> ReviewListResponse.Review.builder()
-                        .authorName(r.getAuthorName())
-                        .authorProfilePhoto(avatar != null ? avatar.photoUrlFor(r.getAuthorId()) : null)
-                        .rating(r.getRating())
-                        .text(r.getText())
-                        .relativeTime(toRelative(r.getCreatedAt()))
-                        .isMine(Objects.equals(r.getAuthorId(), me))
+                        .authorName(r.authorName())
+                        .authorProfilePhoto(r.authorId() != null ? photos.get(r.authorId()) : null)
+                        .rating(r.rating())
+                        .text(r.text())
+                        .relativeTime(toRelative(r.createdAt()))
+                        .isMine(Objects.equals(r.authorId(), me))
                         .build())
                 .toList();
 
-        Double avg = reviewRepository.avgRating(placeId);
-        long cnt   = reviewRepository.countByPlace(placeId);
+        // 헤더 통계는 집계 행(캐시)에서 — place_review 에 AVG/COUNT 없음
+        var stat = reviewStats.get(placeId);
+        Double avg = stat.average();
 
         return ReviewListResponse.builder()
                 .placeId(placeId)
                 .rating(avg == null ? null : roundHalf(avg))
-                .reviewCount(Math.toIntExact(cnt))
+                .reviewCount(Math.toIntExact(stat.count()))
+                .ratingHistogram(Arrays.stream(stat.histogram()).boxed().toList())
                 .reviews(list)
+                .nextCursor(hasNext ? ReviewCursor.after(rows.get(rows.size() - 1)).encode() : null)
                 .build();
     }
 
+    /**
+     * 로컬 + Google 리뷰
+     * - 로컬 리뷰는 커서로 페이지 이동, Google 리뷰(최대 5건)와 내 리뷰 고정은 첫 페이지에만
+     * - 페이지의 로컬 리뷰는 자르지 않음 (커서가 마지막 로컬 항목 기준이므로) → Google 리뷰는 남은 자리만큼
+     * - Google 쪽은 캐시만 읽음 → 이 경로에는 외부 호출 대기가 없음 (getGoogleReviews)
+     */
     @Transactional(readOnly = true)
     public ReviewListResponse getCombinedReviews(String placeId,
                                                  int limit,
+                                                 String cursor,
                                                  boolean pinMineTop,
                                                  AvatarResolver avatar) {
+        int size = clamp(limit, 1, 50);
+        boolean firstPage = cursor == null || cursor.isBlank();
 
         var g = getGoogleReviews(placeId, Math.min(10, limit));
         long gCnt = Optional.ofNullable(g.getReviewCount()).map(Integer::longValue).orElse(0L);
         Double gAvg = g.getRating();
 
-        var localOnly = getLocalReviews(placeId, limit, avatar);
+        var localOnly = getLocalReviews(placeId, limit, cursor, avatar);
         long lCnt = Optional.ofNullable(localOnly.getReviewCount()).map(Integer::longValue).orElse(0L);
         Double lAvg = localOnly.getRating();
 
@@ -113,9 +158,13 @@ public class ReviewService {
         }
 
         var merged = new ArrayList<ReviewListResponse.Review>(localOnly.getReviews());
-        merged.addAll(g.getReviews());
+        if (firstPage) {
+            g.getReviews().stream()
+                    .limit(Math.max(0, size - merged.size()))
+                    .forEach(merged::add);
+        }
 
-        if (pinMineTop) {
+        if (pinMineTop && firstPage) {
             var user = authenticatedProvider.isAuthenticated() ? authenticatedProvider.getCurrentUser() : null;
             if (user != null) {
                 var my = getMyReviewView(placeId,
@@ -137,7 +186,9 @@ public class ReviewService {
                 .placeId(placeId)
                 .rating(combinedAvg != null ? combinedAvg : localOnly.getRating())
                 .reviewCount(combinedCnt != null ? combinedCnt : localOnly.getReviewCount())
-                .reviews(merged.stream().limit(clamp(limit, 1, 50)).toList())
+                .reviews(merged)
+                .nextCursor(localOnly.getNextCursor())
+                .googleDataAgeSeconds(g.getGoogleDataAgeSeconds())
                 .build();
     }
 
@@ -170,6 +221,7 @@ public class ReviewService {
             throw BusinessException.of(StatusCode.REVIEW_ALREADY_EXISTS);
         }
 
+        reviewStats.prepare(placeId);
         var saved = reviewRepository.save(PlaceReview.builder()
                 .placeId(placeId)
                 .author(user)                 // ★ 핵심: 엔티티로 매핑
@@ -178,6 +230,7 @@ public class ReviewService {
                 .text(req.text())
                 .deleted(false)
                 .build());
+        reviewStats.apply(placeId, null, saved.getRating());
 
         return saved.getId();
     }
@@ -197,7 +250,10 @@ public class ReviewService {
             throw BusinessException.of(StatusCode.REVIEW_FORBIDDEN);
         }
 
+        reviewStats.prepare(placeId);
+        Double before = r.getRating();
         r.edit(req.rating(), req.text(), myDisplayName);
+        reviewStats.apply(placeId, before, r.getRating());
     }
 
     public void delete(String placeId, Long reviewId) {
@@ -214,12 +270,21 @@ public class ReviewService {
             throw BusinessException.of(StatusCode.REVIEW_FORBIDDEN);
         }
 
+        reviewStats.prepare(placeId);
         r.softDelete();
+        reviewStats.apply(placeId, r.getRating(), null);
     }
 
     // ========= util =========
 
-    public interface AvatarResolver { String photoUrlFor(Long memberId); }
+    /** 작성자 id 묶음 → 프로필 URL (페이지당 한 번 호출) */
+    public interface AvatarResolver {
+        Map<Long, String> photoUrlsFor(Collection<Long> memberIds);
+
+        default String photoUrlFor(Long memberId) {
+            return memberId == null ? null : photoUrlsFor(List.of(memberId)).get(memberId);
+        }
+    }
 
     private static int clamp(int v, int min, int max) { return Math.max(min, Math.min(v, max)); }
 
@@ -0,0 +1,135 @@
+package com.dobongzip.dobong.domain.map.service;
+
+import com.dobongzip.dobong.domain.map.client.GooglePlacesClientV1;
+import com.dobongzip.dobong.domain.map.dto.response.PlacesV1PlaceDetailsResponse;
+import com.dobongzip.dobong.domain.map.entity.PlaceStat;
+import com.dobongzip.dobong.domain.map.repository.PlaceStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 인기 TOP 장소 카드 (사용자와 무관한 부분을 미리 만들어 둠)
+ * - 순위: PlaceStat 조회수 순, 카드: Google 상세(이름/주소/사진/좌표/별점)
+ * - 조회수 반영(PlaceViewCounter.Flushed) 시 순위만 다시 보고, 새로 들어온 장소만 상세 조회
+ * - 주기 갱신(app.places.top.refresh-interval-ms) 시 카드 전체 다시 조회
+ * - 요청 시에는 거리 계산만 (PlaceService.getTopPlaces)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopPlaceLeaderboard {
+
+    /** /top 최대 limit 과 동일 */
+    static final int MAX_N = 10;
+
+    private final PlaceStatRepository placeStatRepository;
+    private final PlaceDetailEnricher placeDetailEnricher;
+    private final GooglePlacesClientV1 v1;
+
+    private volatile List<Card> cards;
+
+    /** 사용자와 무관한 카드 내용 (불변) */
+    public record Card(String placeId, String name, String address,
+                       double latitude, double longitude,
+                       String imageUrl, String phone,
+                       Double rating, Integer reviewCount) {}
+
+    /** 상위 n 개 (아직 없으면 이 요청에서 한 번 적재) */
+    public List<Card> top(int n) {
+        List<Card> c = cards;
+        if (c == null) {
+            synchronized (this) {
+                if (cards == null) rebuild(true);
+                c = cards;
+            }
+        }
+        return c.subList(0, Math.min(n, c.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            top(MAX_N);
+        } catch (Exception e) {
+            log.warn("[TopPlaces] warm-up failed, will load on first request", e);
+        }
+    }
+
+    /** 조회수 반영 직후 — 순위 변화만 반영 */
+    @EventListener
+    public void onViewsFlushed(PlaceViewCounter.Flushed event) {
+        refresh(false);
+    }
+
+    /** 주기 갱신 (기본 10분) — 카드 내용(별점/사진 등)까지 다시 조회 */
+    @Scheduled(fixedDelayString = "${app.places.top.refresh-interval-ms:600000}",
+            initialDelayString = "${app.places.top.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        refresh(true);
+    }
+
+    private void refresh(boolean refetchAll) {
+        try {
+            synchronized (this) {
+                rebuild(refetchAll);
+            }
+        } catch (Exception e) {
+            log.warn("[TopPlaces] refresh failed, keep previous | {}", e.toString());
+        }
+    }
+
+    /** 순위 조회 → 카드 구성. 상세 실패 항목은 이전 카드가 있으면 그대로 사용 */
+    private void rebuild(boolean refetchAll) {
+        List<PlaceStat> stats = placeStatRepository.findTop(PageRequest.of(0, MAX_N)).getContent();
+
+        Map<String, Card> previous = new HashMap<>();
+        if (cards != null) for (Card c : cards) previous.put(c.placeId(), c);
+
+        List<String> toFetch = new ArrayList<>();
+        for (PlaceStat s : stats) {
+            if (refetchAll || !previous.containsKey(s.getPlaceId())) toFetch.add(s.getPlaceId());
+        }
+        Map<String, PlacesV1PlaceDetailsResponse> details =
+                toFetch.isEmpty() ? Map.of() : placeDetailEnricher.fetchAll(toFetch);
+
+        List<Card> next = new ArrayList<>(stats.size());
+        for (PlaceStat s : stats) {
+            String placeId = s.getPlaceId();
+            Card card = toCard(details.get(placeId));
+            if (card == null) card = previous.get(placeId);
+            if (card == null) {
+                log.warn("[TopPlaces] Google 상세가 없거나 위치 정보가 없습니다. (placeId: {})", placeId);
+                continue;
+            }
+            next.add(card);
+        }
+        cards = List.copyOf(next);
+    }
+
+    private Card toCard(PlacesV1PlaceDetailsResponse d) {
+        if (d == null || d.getLocation() == null) return null;
+
+        String photoName = (d.getPhotos() != null && !d.getPhotos().isEmpty())
+                ? d.getPhotos().get(0).getName() : null;
+        String phone = (d.getInternationalPhoneNumber() != null)
+                ? d.getInternationalPhoneNumber() : d.getNationalPhoneNumber();
+
+        return new Card(
+                d.getId(),
+                d.getDisplayName() != null ? d.getDisplayName().getText() : null,
+                d.getFormattedAddress(),
+                d.getLocation().getLatitude(),
+                d.getLocation().getLongitude(),
+                v1.buildPhotoUrl(photoName, 800),
+                phone,
+                d.getRating(),
+                d.getUserRatingCount());
+    }
+}
@@ -0,0 +1,200 @@
+package com.dobongzip.dobong.domain.map.service;
+
+import com.dobongzip.dobong.domain.map.client.WikipediaClient;
+import com.dobongzip.dobong.domain.map.entity.WikiSummary;
+import com.dobongzip.dobong.domain.map.repository.WikiSummaryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * 장소 Wikipedia 요약 저장소
+ * - 키: 이름 + 좌표(소수 3자리) → 메모리(Caffeine) → DB(wiki_summary) 순 조회
+ * - 이미 아는 장소는 저장된 값을 바로 응답, TTL 이 지났으면 백그라운드로 다시 조회
+ * - '문서 없음'도 저장 (음성 캐시, 기본 7일) → 매 상세 조회마다 최대 10회 호출 반복 방지
+ * - 네트워크/5xx 로 확정하지 못한 결과는 저장하지 않음 (다음 요청에서 재시도)
+ * - 인기 TOP 장소는 주기적으로 미리 채움
+ */
+@Slf4j
+@Component
+public class WikiSummaryStore {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int MAX_NAME_LENGTH = 200;
+
+    private final WikipediaClient wikipedia;
+    private final WikiSummaryRepository repository;
+    private final TopPlaceLeaderboard topPlaceLeaderboard;
+    private final Duration positiveTtl;
+    private final Duration negativeTtl;
+
+    private final Cache<String, Known> memory = Caffeine.newBuilder().maximumSize(5000).build();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter fillFailures;
+
+    /** 백그라운드 조회 — 같은 키는 한 번만 대기열에, 대기열이 차면 버림(다음 요청이 다시 시도) */
+    private final ExecutorService filler = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(256),
+            r -> {
+                Thread t = new Thread(r, "wiki-summary-fill");
+                t.setDaemon(true);
+                return t;
+            });
+    private final Set<String> filling = ConcurrentHashMap.newKeySet();
+
+    /** 알려진 결과 (summary == null → 문서 없음) */
+    private record Known(String summary, long fetchedAtMillis) {}
+
+    public WikiSummaryStore(WikipediaClient wikipedia,
+                            WikiSummaryRepository repository,
+                            TopPlaceLeaderboard topPlaceLeaderboard,
+                            @Value("${app.wiki.summary-ttl:30d}") Duration positiveTtl,
+                            @Value("${app.wiki.negative-ttl:7d}") Duration negativeTtl,
+                            MeterRegistry registry) {
+        this.wikipedia = wikipedia;
+        this.repository = repository;
+        this.topPlaceLeaderboard = topPlaceLeaderboard;
+        this.positiveTtl = positiveTtl;
+        this.negativeTtl = negativeTtl;
+        this.hits = Counter.builder("wiki.summary").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("wiki.summary").tag("result", "miss").register(registry);
+        this.fillFailures = Counter.builder("wiki.summary.fill.failures").register(registry);
+    }
+
+    /**
+     * 장소 요약
+     * - 아는 장소: 저장된 값 즉시 반환 (오래됐으면 백그라운드 갱신)
+     * - 처음 보는 장소: 이번 요청에서 조회 후 저장 (동시 요청은 WikipediaClient 에서 1회로 합침)
+     */
+    public Optional<String> find(String name, Double lat, Double lng) {
+        if (!hasQuery(name, lat, lng)) return Optional.empty();
+
+        String key = keyOf(name, lat, lng);
+        Known known = known(key);
+        if (known != null) {
+            hits.increment();
+            if (isExpired(known)) fillInBackground(key, name, lat, lng);
+            return Optional.ofNullable(known.summary());
+        }
+
+        misses.increment();
+        Known loaded = fetchAndStore(key, name, lat, lng);
+        return (loaded == null) ? Optional.empty() : Optional.ofNullable(loaded.summary());
+    }
+
+    /** 처음 보는 장소만 백그라운드로 미리 조회 */
+    public void prefetch(String name, Double lat, Double lng) {
+        if (!hasQuery(name, lat, lng)) return;
+        String key = keyOf(name, lat, lng);
+        Known known = known(key);
+        if (known == null || isExpired(known)) fillInBackground(key, name, lat, lng);
+    }
+
+    /** 인기 TOP 장소 미리 채우기 (기본 1시간) */
+    @Scheduled(fixedDelayString = "${app.wiki.prefetch-interval-ms:3600000}",
+            initialDelayString = "${app.wiki.prefetch-interval-ms:3600000}")
+    public void prefetchTopPlaces() {
+        try {
+            for (TopPlaceLeaderboard.Card c : topPlaceLeaderboard.top(TopPlaceLeaderboard.MAX_N)) {
+                prefetch(c.name(), c.latitude(), c.longitude());
+            }
+        } catch (Exception e) {
+            log.warn("[WikiSummary] prefetch failed | {}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        filler.shutdownNow();
+    }
+
+    // ───────────────────────── 내부 ─────────────────────────
+
+    /** 메모리 → DB 순 조회 (DB 장애 시 모르는 장소로 취급) */
+    private Known known(String key) {
+        Known k = memory.getIfPresent(key);
+        if (k != null) return k;
+        try {
+            k = repository.findById(key)
+                    .map(e -> new Known(e.getSummary(), e.getFetchedAt().atZone(KST).toInstant().toEpochMilli()))
+                    .orElse(null);
+        } catch (Exception e) {
+            log.debug("[WikiSummary] db read failed key={} | {}", key, e.toString());
+            return null;
+        }
+        if (k != null) memory.put(key, k);
+        return k;
+    }
+
+    /** Wikipedia 조회 → 확정된 결과(문서 있음/없음)만 저장. 확정 못 하면 null */
+    private Known fetchAndStore(String key, String name, Double lat, Double lng) {
+        WikipediaClient.Lookup r = wikipedia.lookup(name, lat, lng);
+        if (r.failed()) {
+            fillFailures.increment();
+            return null;
+        }
+
+        Known k = new Known(r.summary(), System.currentTimeMillis());
+        memory.put(key, k);
+        try {
+            repository.save(new WikiSummary(key, r.summary(), LocalDateTime.now(KST)));
+        } catch (Exception e) {
+            log.warn("[WikiSummary] db write failed key={} | {}", key, e.toString());
+        }
+        return k;
+    }
+
+    private void fillInBackground(String key, String name, Double lat, Double lng) {
+        if (!filling.add(key)) return;
+        try {
+            filler.execute(() -> {
+                try {
+                    fetchAndStore(key, name, lat, lng);
+                } catch (Exception e) {
+                    // 실패 → 기존 값 계속 응답
+                    fillFailures.increment();
+                    log.warn("[WikiSummary] background fill failed key={} | {}", key, e.toString());
+                } finally {
+                    filling.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            filling.remove(key);
+        }
+    }
+
+    private boolean isExpired(Known k) {
+        Duration ttl = (k.summary() == null) ? negativeTtl : positiveTtl;
+        return System.currentTimeMillis() - k.fetchedAtMillis() >= ttl.toMillis();
+    }
+
+    private static boolean hasQuery(String name, Double lat, Double lng) {
+        return (name != null && !name.isBlank()) || (lat != null && lng != null);
+    }
+
+    /** 이름(소문자, 공백 정리) + 좌표 소수 3자리(약 100m) */
+    static String keyOf(String name, Double lat, Double lng) {
+        String n = (name == null) ? "" : name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (n.length() > MAX_NAME_LENGTH) n = n.substring(0, MAX_NAME_LENGTH);
+        return n + "|" + round3(lat) + "|" + round3(lng);
+    }
+
+    private static String round3(Double v) {
+        return (v == null) ? "" : String.format(Locale.ROOT, "%.3f", v);
+    }
+}
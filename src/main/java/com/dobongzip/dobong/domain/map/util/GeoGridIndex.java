@@ -0,0 +1,237 @@
+package com.dobongzip.dobong.domain.map.util;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 위경도 격자 공간 색인 (불변)
+ * - 점 번호(0..n-1)를 위경도 격자 칸으로 묶어 칸 키 정렬 배열(CSR)로 보관 → 조회 시 박싱/맵 없음
+ * - 반경 질의는 반경을 덮는 칸만 확인, 최근접은 칸 고리를 넓혀가며 확인
+ * - 거리는 GeoUtils.Points 로 계산 (점별 cos(위도) 재사용)
+ * - 데이터셋 규모(수백~수천 점)에서 격자 한 칸 ≈ 500m 기본값이면 질의당 수십 점 이하만 거리 계산
+ */
+public final class GeoGridIndex {
+
+    /** 기본 격자 크기 (위도 0.005° ≈ 555m) */
+    public static final double DEFAULT_CELL_DEG = 0.005;
+
+    private static final double EARTH_RADIUS_M = 6371000.0;
+    private static final double METERS_PER_DEG = Math.PI * EARTH_RADIUS_M / 180.0;
+
+    private final double cellDeg;
+    private final double[] lats;
+    private final double[] lons;
+    private final GeoUtils.Points pts;    // 거리 계산용 (점별 cos(위도) 미리 계산)
+
+    // CSR: cellKeys[c] 칸의 점들은 points[cellStart[c] .. cellStart[c+1])
+    private final long[] cellKeys;
+    private final int[] cellStart;
+    private final int[] points;
+
+    private final int minRow, maxRow, minCol, maxCol;
+
+    /** 점 방문 콜백 (meters: 질의 지점과의 거리) */
+    @FunctionalInterface
+    public interface PointVisitor {
+        void visit(int point, double meters);
+    }
+
+    private GeoGridIndex(double[] lats, double[] lons, double cellDeg) {
+        this.cellDeg = cellDeg;
+        this.lats = lats.clone();
+        this.lons = lons.clone();
+        this.pts = GeoUtils.Points.of(lats, lons);
+
+        int n = lats.length;
+        long[] keyOf = new long[n];
+        Integer[] order = new Integer[n];
+        int rMin = Integer.MAX_VALUE, rMax = Integer.MIN_VALUE, cMin = Integer.MAX_VALUE, cMax = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            int r = row(lats[i]);
+            int c = col(lons[i]);
+            keyOf[i] = key(r, c);
+            order[i] = i;
+            rMin = Math.min(rMin, r); rMax = Math.max(rMax, r);
+            cMin = Math.min(cMin, c); cMax = Math.max(cMax, c);
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keyOf[a], keyOf[b]));
+
+        points = new int[n];
+        long[] keys = new long[n];
+        int[] starts = new int[n + 1];
+        int cells = 0;
+        for (int i = 0; i < n; i++) {
+            int p = order[i];
+            points[i] = p;
+            if (cells == 0 || keys[cells - 1] != keyOf[p]) {
+                keys[cells] = keyOf[p];
+                starts[cells] = i;
+                cells++;
+            }
+        }
+        starts[cells] = n;
+        cellKeys = Arrays.copyOf(keys, cells);
+        cellStart = Arrays.copyOf(starts, cells + 1);
+
+        minRow = rMin; maxRow = rMax; minCol = cMin; maxCol = cMax;
+    }
+
+    public static GeoGridIndex build(double[] lats, double[] lons) {
+        return build(lats, lons, DEFAULT_CELL_DEG);
+    }
+
+    public static GeoGridIndex build(double[] lats, double[] lons, double cellDeg) {
+        if (lats.length != lons.length) throw new IllegalArgumentException("lat/lon length mismatch");
+        return new GeoGridIndex(lats, lons, cellDeg);
+    }
+
+    public int size() {
+        return lats.length;
+    }
+
+    public double lat(int point) { return lats[point]; }
+    public double lon(int point) { return lons[point]; }
+
+    // ───────────────────────── 질의 ─────────────────────────
+
+    /** 반경(m) 안의 모든 점 방문 (순서 보장 없음) */
+    public void forEachWithin(double lat, double lon, double radiusM, PointVisitor visitor) {
+        if (size() == 0) return;
+        GeoUtils.Origin o = GeoUtils.Origin.of(lat, lon);
+        if (Double.isInfinite(radiusM)) {
+            for (int p = 0; p < size(); p++) visitor.visit(p, pts.distanceMeters(o, p));
+            return;
+        }
+        int r0 = row(lat), c0 = col(lon);
+        int dr = (int) Math.ceil(radiusM / (METERS_PER_DEG * cellDeg));
+        int dc = (int) Math.ceil(radiusM / (METERS_PER_DEG * cellDeg * Math.max(0.01, Math.cos(Math.toRadians(lat)))));
+
+        for (int r = Math.max(r0 - dr, minRow); r <= Math.min(r0 + dr, maxRow); r++) {
+            for (int c = Math.max(c0 - dc, minCol); c <= Math.min(c0 + dc, maxCol); c++) {
+                int cell = Arrays.binarySearch(cellKeys, key(r, c));
+                if (cell < 0) continue;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int p = points[i];
+                    double d = pts.distanceMeters(o, p);
+                    if (d <= radiusM) visitor.visit(p, d);
+                }
+            }
+        }
+    }
+
+    /** 가장 가까운 점 (비어 있으면 -1) */
+    public int nearest(double lat, double lon) {
+        int[] one = nearest(lat, lon, 1);
+        return one.length == 0 ? -1 : one[0];
+    }
+
+    /** 가까운 순 상위 k 개 점 번호 */
+    public int[] nearest(double lat, double lon, int k) {
+        k = Math.min(k, size());
+        if (k <= 0) return new int[0];
+
+        // 가까운 순 k 개 (삽입 정렬, k 는 작다고 가정)
+        int[] best = new int[k];
+        double[] bestD = new double[k];
+        Arrays.fill(bestD, Double.POSITIVE_INFINITY);
+        int found = 0;
+        GeoUtils.Origin o = GeoUtils.Origin.of(lat, lon);
+
+        int r0 = row(lat), c0 = col(lon);
+        // 격자 밖에서 질의하면 격자에 닿는 고리부터 시작
+        int firstRing = Math.max(0, Math.max(Math.max(minRow - r0, r0 - maxRow), Math.max(minCol - c0, c0 - maxCol)));
+        int lastRing = Math.max(Math.max(Math.abs(r0 - minRow), Math.abs(r0 - maxRow)),
+                Math.max(Math.abs(c0 - minCol), Math.abs(c0 - maxCol)));
+        double ringM = METERS_PER_DEG * cellDeg * Math.max(0.01, Math.cos(Math.toRadians(lat)));
+
+        for (int ring = firstRing; ring <= lastRing; ring++) {
+            // ring 번째 고리의 점은 최소 (ring-1) 칸 너비만큼 떨어져 있음 → k 개를 다 찾았고 그보다 가까우면 종료
+            if (found == k && bestD[k - 1] <= (ring - 1) * ringM) break;
+
+            for (int r = Math.max(r0 - ring, minRow); r <= Math.min(r0 + ring, maxRow); r++) {
+                boolean edgeRow = (r == r0 - ring || r == r0 + ring);
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int c = c0 - ring; c <= c0 + ring; c += step) {
+                    if (c < minCol) {
+                        if (edgeRow) c = minCol - 1; // 다음 반복에서 minCol 부터
+                        continue;
+                    }
+                    if (c > maxCol) break;
+                    int cell = Arrays.binarySearch(cellKeys, key(r, c));
+                    if (cell < 0) continue;
+                    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                        int p = points[i];
+                        double d = pts.distanceMeters(o, p);
+                        if (found < k) {
+                            found = insert(best, bestD, found, p, d);
+                        } else if (d < bestD[k - 1]) {
+                            insert(best, bestD, k - 1, p, d);
+                        }
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(best, found);
+    }
+
+    /**
+     * 반경 안에서 무작위 1개 (없으면 -1)
+     * - weighted=false: 균등, true: 가까울수록 가중치 ↑ (1 / (1 + 거리km)²)
+     * - 가중 저수지 표집(A-Res) 한 번 훑기 → 후보 목록을 만들지 않음
+     */
+    public int sample(double lat, double lon, double radiusM, boolean weighted, RandomGenerator rnd) {
+        Sampler s = new Sampler(weighted, rnd);
+        forEachWithin(lat, lon, radiusM, s);
+        return s.pick;
+    }
+
+    private static final class Sampler implements PointVisitor {
+        final boolean weighted;
+        final RandomGenerator rnd;
+        int pick = -1;
+        double bestKey = Double.NEGATIVE_INFINITY;
+
+        Sampler(boolean weighted, RandomGenerator rnd) {
+            this.weighted = weighted;
+            this.rnd = rnd;
+        }
+
+        @Override
+        public void visit(int point, double meters) {
+            double w = 1.0;
+            if (weighted) {
+                double x = 1.0 + meters / 1000.0;
+                w = 1.0 / (x * x);
+            }
+            // key = u^(1/w) 의 로그 → 최대 key 선택
+            double key = Math.log(1.0 - rnd.nextDouble()) / w;
+            if (key > bestKey) {
+                bestKey = key;
+                pick = point;
+            }
+        }
+    }
+
+    // ───────────────────────── 내부 ─────────────────────────
+
+    private static int insert(int[] best, double[] bestD, int len, int p, double d) {
+        int j = len;
+        while (j > 0 && bestD[j - 1] > d) {
+            if (j < best.length) {
+                best[j] = best[j - 1];
+                bestD[j] = bestD[j - 1];
+            }
+            j--;
+        }
+        best[j] = p;
+        bestD[j] = d;
+        return Math.min(len + 1, best.length);
+    }
+
+    private int row(double lat) { return (int) Math.floor(lat / cellDeg); }
+    private int col(double lon) { return (int) Math.floor(lon / cellDeg); }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -4,13 +4,18 @@ public class GeoUtils {
     private static final double EARTH_RADIUS_M = 6371000.0;
 
     public static long haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        return Math.round(distanceMeters(lat1, lon1, lat2, lon2));
+    }
+
+    /** 두 지점 간 대원 거리 (m, 반올림 없음) */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
         double dLat = Math.toRadians(lat2 - lat1);
         double dLon = Math.toRadians(lon2 - lon1);
         double a = Math.sin(dLat/2)*Math.sin(dLat/2)
                 + Math.cos(Math.toRadians(lat1))*Math.cos(Math.toRadians(lat2))
                 * Math.sin(dLon/2)*Math.sin(dLon/2);
         double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return Math.round(EARTH_RADIUS_M * c);
+        return EARTH_RADIUS_M * c;
     }
 
     public static String formatDistance(long meters) {
@@ -18,4 +23,152 @@ public class GeoUtils {
         return String.format("%.1f km", km);
     }
 
+    // ───────────────────────── 일괄 계산 ─────────────────────────
+
+    /** 기준점 (라디안 좌표 + cos(위도) 를 한 번만 계산) */
+    public record Origin(double latRad, double lonRad, double cosLat) {
+        public static Origin of(double lat, double lon) {
+            double latR = Math.toRadians(lat);
+            return new Origin(latR, Math.toRadians(lon), Math.cos(latR));
+        }
+    }
+
+    /**
+     * 좌표 묶음 (불변) — 점마다 라디안 좌표와 cos(위도)를 미리 계산해 둠
+     * - 한 기준점 → 여러 점 거리 계산 시 점마다 toRadians/cos 반복 없음
+     */
+    public static final class Points {
+        private final double[] latRad;
+        private final double[] lonRad;
+        private final double[] cosLat;
+
+        private Points(double[] lats, double[] lons) {
+            int n = lats.length;
+            latRad = new double[n];
+            lonRad = new double[n];
+            cosLat = new double[n];
+            for (int i = 0; i < n; i++) {
+                latRad[i] = Math.toRadians(lats[i]);
+                lonRad[i] = Math.toRadians(lons[i]);
+                cosLat[i] = Math.cos(latRad[i]);
+            }
+        }
+
+        public static Points of(double[] lats, double[] lons) {
+            if (lats.length != lons.length) throw new IllegalArgumentException("lat/lon length mismatch");
+            return new Points(lats, lons);
+        }
+
+        public int size() {
+            return latRad.length;
+        }
+
+        /** 기준점에서 i 번 점까지 대원 거리 (m) */
+        public double distanceMeters(Origin o, int i) {
+            return EARTH_RADIUS_M * centralAngle(hav(o, i));
+        }
+
+        /** haversine 의 a 값 (거리와 단조 증가 → 정렬/비교는 a 만으로 충분) */
+        private double hav(Origin o, int i) {
+            double sLat = Math.sin((latRad[i] - o.latRad()) * 0.5);
+            double sLon = Math.sin((lonRad[i] - o.lonRad()) * 0.5);
+            return sLat * sLat + o.cosLat() * cosLat[i] * sLon * sLon;
+        }
+    }
+
+    /**
+     * 기준점 → 모든 점 대원 거리 (m) 를 out 에 기록
+     * - 점당 sin 2회 + atan2 1회 (toRadians/cos 는 Points 생성 시 1회)
+     */
+    public static void distancesMeters(double lat, double lon, Points pts, double[] out) {
+        Origin o = Origin.of(lat, lon);
+        for (int i = 0; i < pts.size(); i++) {
+            out[i] = pts.distanceMeters(o, i);
+        }
+    }
+
+    /**
+     * 기준점 → 모든 점 근사 거리 (m, 등장방형 투영) 를 out 에 기록
+     * - x = Δλ·√(cosφ₀·cosφᵢ), y = Δφ, d = R·√(x²+y²) → 점당 삼각함수 없음
+     * - 도봉구 일대(위도 37.6~37.72°, 경도 126.98~127.10°, 최대 약 17km) 에서
+     *   haversine 대비 상대 오차 1e-6 미만 (최대 약 2mm). 오차는 거리의 세제곱에 비례해 커지므로
+     *   서로 수백 km 떨어진 점에는 distancesMeters 를 쓸 것
+     */
+    public static void approxDistancesMeters(double lat, double lon, Points pts, double[] out) {
+        Origin o = Origin.of(lat, lon);
+        for (int i = 0; i < pts.size(); i++) {
+            double x = (pts.lonRad[i] - o.lonRad()) * Math.sqrt(o.cosLat() * pts.cosLat[i]);
+            double y = pts.latRad[i] - o.latRad();
+            out[i] = EARTH_RADIUS_M * Math.sqrt(x * x + y * y);
+        }
+    }
+
+    /**
+     * 기준점에서 가까운 순 상위 k 개 점 번호 (박싱 없음)
+     * - haversine a 값으로 비교 (sqrt/atan2 생략, 순서는 정확한 거리와 동일)
+     * - 크기 k 의 최대 힙을 원시 배열로 유지 → O(n log k)
+     */
+    public static int[] nearestK(double lat, double lon, Points pts, int k) {
+        k = Math.min(k, pts.size());
+        if (k <= 0) return new int[0];
+
+        Origin o = Origin.of(lat, lon);
+
+        int[] heap = new int[k];
+        double[] key = new double[k];
+        int size = 0;
+        for (int i = 0; i < pts.size(); i++) {
+            double a = pts.hav(o, i);
+            if (size < k) {
+                heap[size] = i;
+                key[size] = a;
+                siftUp(heap, key, size++);
+            } else if (a < key[0]) {
+                heap[0] = i;
+                key[0] = a;
+                siftDown(heap, key, k);
+            }
+        }
+
+        // 힙에서 최댓값부터 꺼내 뒤에서부터 채움 → 가까운 순
+        int[] result = new int[size];
+        for (int end = size - 1; end >= 0; end--) {
+            result[end] = heap[0];
+            heap[0] = heap[end];
+            key[0] = key[end];
+            siftDown(heap, key, end);
+        }
+        return result;
+    }
+
+    private static double centralAngle(double a) {
+        return 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private static void siftUp(int[] heap, double[] key, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (key[parent] >= key[i]) break;
+            swap(heap, key, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, double[] key, int size) {
+        int i = 0;
+        while (true) {
+            int l = 2 * i + 1;
+            if (l >= size) break;
+            int r = l + 1;
+            int largest = (r < size && key[r] > key[l]) ? r : l;
+            if (key[i] >= key[largest]) break;
+            swap(heap, key, i, largest);
+            i = largest;
+        }
+    }
+
+    private static void swap(int[] heap, double[] key, int i, int j) {
+        int h = heap[i]; heap[i] = heap[j]; heap[j] = h;
+        double t = key[i]; key[i] = key[j]; key[j] = t;
+    }
 }
@@ -0,0 +1,91 @@
+package com.dobongzip.dobong.domain.map.util;
+
+/**
+ * 한글 자모 분해 (자동완성용)
+ * - 완성형 음절을 초성/중성/종성 호환 자모로 풀고, 겹모음·겹받침도 낱자로 나눔
+ *   → 입력 중인 "돕"(ㄷㅗㅂ)이 "도봉"(ㄷㅗㅂㅗㅇ)의 접두어가 됨
+ * - 공백/기호 제거 + 영문 소문자화
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_FIRST = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final char COMPAT_FIRST = 0x3131; // ㄱ
+    private static final char COMPAT_LAST = 0x3163;  // ㅣ
+    private static final char CONSONANT_LAST = 0x314E; // ㅎ
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /** 낱자로 입력된 겹받침/겹모음 분해표 (호환 자모 기준) */
+    private static final String[] COMPAT_SPLIT = new String[COMPAT_LAST - COMPAT_FIRST + 1];
+
+    static {
+        String[][] pairs = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+                {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"},
+                {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] p : pairs) COMPAT_SPLIT[p[0].charAt(0) - COMPAT_FIRST] = p[1];
+    }
+
+    private HangulJamo() {}
+
+    /** 검색 키: 자모 완전 분해 + 소문자, 글자/숫자 외 제거 */
+    public static String decompose(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                int off = c - SYLLABLE_FIRST;
+                sb.append(CHO.charAt(off / (21 * 28)))
+                        .append(JUNG[(off / 28) % 21])
+                        .append(JONG[off % 28]);
+            } else if (c >= COMPAT_FIRST && c <= COMPAT_LAST) {
+                String split = COMPAT_SPLIT[c - COMPAT_FIRST];
+                if (split != null) sb.append(split);
+                else sb.append(c);
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 초성 키: "도봉산 둘레길" → "ㄷㅂㅅㄷㄹㄱ" (한글 외 글자/숫자는 소문자로 유지) */
+    public static String choseong(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                sb.append(CHO.charAt((c - SYLLABLE_FIRST) / (21 * 28)));
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 공백 외에는 자음 낱자만으로 된 입력인지 ("ㄷㅂㅅ") */
+    public static boolean isChoseongOnly(String s) {
+        if (s == null) return false;
+        boolean any = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c < COMPAT_FIRST || c > CONSONANT_LAST) return false;
+            any = true;
+        }
+        return any;
+    }
+}
@@ -11,6 +11,7 @@ import com.dobongzip.dobong.domain.user.repository.UserRepository;
 import com.dobongzip.dobong.global.exception.BusinessException;
 import com.dobongzip.dobong.global.response.StatusCode;
 import com.dobongzip.dobong.global.s3.service.ImageService;
+import com.dobongzip.dobong.global.s3.service.ProfileAvatarResolver;
 import com.dobongzip.dobong.global.security.enums.LoginType;
 import com.dobongzip.dobong.global.security.jwt.AuthenticatedProvider;
 import com.dobongzip.dobong.global.security.util.PasswordValidator;
@@ -29,6 +30,7 @@ public class MypageService {
     private final AuthenticatedProvider authenticatedProvider;
     private final PasswordEncoder passwordEncoder;
     private final ImageService imageService;
+    private final ProfileAvatarResolver avatarResolver;
 
     @Transactional(readOnly = true)
     public ProfileResponseDto getProfile() {
@@ -64,6 +66,7 @@ public class MypageService {
     public ImageUrlResponseDto finalizeProfileImage(ImageFinalizeRequestDto dto) {
         User user = authenticatedProvider.getCurrentUser();
         var result = imageService.finalizeProfileImage(user, dto.getObjectKey());
+        avatarResolver.evict(user.getId());
         return new ImageUrlResponseDto(result.getUrl());
     }
 
@@ -72,6 +75,7 @@ public class MypageService {
     public void removeProfileImage() {
         User user = authenticatedProvider.getCurrentUser();
         imageService.removeProfileImage(user);
+        avatarResolver.evict(user.getId());
     }
 
     /** 비밀번호 변경 */
@@ -3,7 +3,11 @@ package com.dobongzip.dobong.domain.user.repository;
 import com.dobongzip.dobong.domain.user.entity.User;
 import com.dobongzip.dobong.global.security.enums.LoginType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -12,4 +16,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 👉 비번 재설정용
     Optional<User> findByEmail(String email);
+
+    /** 프로필 이미지 키 일괄 조회 (리뷰 목록 아바타) — 작성자 묶음을 IN 한 번으로, User 엔티티 로딩 없음 */
+    @Query("select u.id as id, u.profileImageKey as profileImageKey from User u where u.id in :ids")
+    List<ProfileImageKey> findProfileImageKeys(@Param("ids") Collection<Long> ids);
+
+    interface ProfileImageKey {
+        Long getId();
+        String getProfileImageKey();
+    }
 }
@@ -0,0 +1,61 @@
+package com.dobongzip.dobong.global.http;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출 우선순위 표시 (스레드 단위)
+ * - 기본은 사용자 요청(대화형). 미리 채우기/백그라운드 갱신/목록 보강은 background 로 감싸서 호출
+ * - 호출량 제한기(PlacesQuotaBudget 등)는 background 호출에 예비분을 내주지 않음
+ * - 다른 스레드로 넘기는 작업은 propagate 로 현재 표시를 함께 전달
+ * - 리액티브(Mono) 호출은 스레드가 바뀌므로 Reactor Context 로 전달 (background(Mono))
+ */
+public final class CallPriority {
+
+    private static final ThreadLocal<Boolean> BACKGROUND = new ThreadLocal<>();
+    private static final String CONTEXT_KEY = CallPriority.class.getName() + ".background";
+
+    private CallPriority() {
+    }
+
+    public static boolean isBackground() {
+        return Boolean.TRUE.equals(BACKGROUND.get());
+    }
+
+    /** 리액티브 호출용 — Context 표시 또는 조립 시점 스레드 표시 */
+    public static boolean isBackground(ContextView ctx) {
+        return ctx.getOrDefault(CONTEXT_KEY, Boolean.FALSE) || isBackground();
+    }
+
+    /** work 를 background 우선순위로 실행 */
+    public static <T> T background(Supplier<T> work) {
+        Boolean prev = BACKGROUND.get();
+        BACKGROUND.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (prev == null) BACKGROUND.remove();
+            else BACKGROUND.set(prev);
+        }
+    }
+
+    public static void background(Runnable work) {
+        background(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /** work 를 background 우선순위로 구독 (Reactor Context 로 전달) */
+    public static <T> Mono<T> background(Mono<T> work) {
+        return work.contextWrite(ctx -> ctx.put(CONTEXT_KEY, Boolean.TRUE));
+    }
+
+    /** 현재 스레드의 우선순위를 유지한 채 다른 스레드에서 실행되도록 감쌈 */
+    public static <T> Supplier<T> propagate(Supplier<T> work) {
+        if (!isBackground()) return work;
+        return () -> background(work);
+    }
+}
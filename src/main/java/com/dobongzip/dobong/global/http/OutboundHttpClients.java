@@ -0,0 +1,85 @@
+package com.dobongzip.dobong.global.http;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 연결 (Reactor Netty)
+ * - 대상(Upstream)마다 연결 풀 하나 → 한 대상이 느려져도 다른 대상의 연결을 뺏지 않음
+ * - keep-alive 로 연결 재사용 (요청마다 TLS 핸드셰이크 없음), TLS 대상은 ALPN 으로 HTTP/2 협상
+ * - RestTemplate(동기)과 WebClient(리액티브) 모두 같은 풀 위에서 동작
+ * - 풀 지표: reactor.netty.connection.provider.* (name=대상), 요청 지표: reactor.netty.http.client.*
+ */
+@Slf4j
+@Component
+public class OutboundHttpClients {
+
+    private final Map<Upstream, ConnectionProvider> providers = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, HttpClient> clients = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, OutboundHttpProperties.Pool> settings = new EnumMap<>(Upstream.class);
+
+    public OutboundHttpClients(OutboundHttpProperties props) {
+        for (Upstream u : Upstream.values()) {
+            OutboundHttpProperties.Pool p = props.resolve(u);
+            ConnectionProvider provider = ConnectionProvider.builder("http-" + u.key())
+                    .maxConnections(p.getMaxConnections())
+                    .pendingAcquireTimeout(p.getPendingAcquireTimeout())
+                    .maxIdleTime(p.getMaxIdleTime())
+                    .maxLifeTime(p.getMaxLifeTime())
+                    .evictInBackground(Duration.ofSeconds(30))
+                    .metrics(true)
+                    .build();
+
+            HttpClient client = HttpClient.create(provider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) p.getConnectTimeout().toMillis())
+                    .option(ChannelOption.SO_KEEPALIVE, true)
+                    .responseTimeout(p.getReadTimeout())
+                    .keepAlive(true)
+                    .compress(true)
+                    // URI 별 태그를 만들지 않도록 경로는 대상 이름 하나로 묶음 (쿼리/키가 태그로 새지 않게)
+                    .metrics(true, uri -> u.key());
+            if (Boolean.TRUE.equals(p.getHttp2())) {
+                // 평문(http) 대상은 HTTP/1.1 로 동작, TLS 대상만 h2 협상
+                client = client.protocol(HttpProtocol.HTTP11, HttpProtocol.H2);
+            }
+
+            providers.put(u, provider);
+            clients.put(u, client);
+            settings.put(u, p);
+            log.info("[OutboundHttp] {} maxConnections={} connect={} read={} http2={}",
+                    u.key(), p.getMaxConnections(), p.getConnectTimeout(), p.getReadTimeout(), p.getHttp2());
+        }
+    }
+
+    public HttpClient httpClient(Upstream upstream) {
+        return clients.get(upstream);
+    }
+
+    /** RestTemplate 용 (같은 풀 사용) */
+    public ReactorClientHttpRequestFactory requestFactory(Upstream upstream) {
+        ReactorClientHttpRequestFactory factory = new ReactorClientHttpRequestFactory(clients.get(upstream));
+        factory.setReadTimeout(settings.get(upstream).getReadTimeout());
+        return factory;
+    }
+
+    /** WebClient 용 (같은 풀 사용) */
+    public ReactorClientHttpConnector connector(Upstream upstream) {
+        return new ReactorClientHttpConnector(clients.get(upstream));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+}
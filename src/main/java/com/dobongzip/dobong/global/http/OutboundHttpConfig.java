@@ -0,0 +1,87 @@
+package com.dobongzip.dobong.global.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대상별 HTTP 클라이언트 빈
+ * - googleRestTemplate / wikipediaRestTemplate / dobongRestTemplate
+ * - googleWebClient / seoulWebClient / pythonWebClient
+ * - 같은 타입 빈이 여럿이므로 주입 지점에는 반드시 @Qualifier("<빈 이름>") 를 붙임
+ *   (파라미터 이름에 기대지 않음 — 이름을 바꾸거나 -parameters 없이 컴파일하면 다른 빈이 들어가거나 기동 실패)
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+    private static final String BROWSER_USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+                    + "(KHTML, like Gecko) Chrome/126.0.0.0 Safari/537.36";
+
+    @Bean
+    public RestTemplate googleRestTemplate(RestTemplateBuilder builder, OutboundHttpClients clients) {
+        return builder
+                .requestFactory(() -> clients.requestFactory(Upstream.GOOGLE))
+                .defaultHeader(HttpHeaders.USER_AGENT, BROWSER_USER_AGENT)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate wikipediaRestTemplate(RestTemplateBuilder builder, OutboundHttpClients clients) {
+        return builder
+                .requestFactory(() -> clients.requestFactory(Upstream.WIKIPEDIA))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate dobongRestTemplate(RestTemplateBuilder builder, OutboundHttpClients clients) {
+        RestTemplate restTemplate = builder
+                .requestFactory(() -> clients.requestFactory(Upstream.DOBONG))
+                .build();
+        // 한글 깨짐 방지 - UTF-8 설정
+        restTemplate.getMessageConverters().add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+        return restTemplate;
+    }
+
+    /** Google Places 비동기 API 용 (googleRestTemplate 과 같은 연결 풀) */
+    @Bean
+    public WebClient googleWebClient(OutboundHttpClients clients) {
+        var strategies = ExchangeStrategies.builder()
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(2 * 1024 * 1024)) // 2MB (검색 응답)
+                .build();
+        return WebClient.builder()
+                .clientConnector(clients.connector(Upstream.GOOGLE))
+                .exchangeStrategies(strategies)
+                .defaultHeader(HttpHeaders.USER_AGENT, BROWSER_USER_AGENT)
+                .build();
+    }
+
+    @Bean
+    public WebClient seoulWebClient(OutboundHttpClients clients) {
+        var strategies = ExchangeStrategies.builder()
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(4 * 1024 * 1024)) // 4MB
+                .build();
+        return WebClient.builder()
+                .clientConnector(clients.connector(Upstream.SEOUL))
+                .exchangeStrategies(strategies)
+                .build();
+    }
+
+    @Bean
+    public WebClient pythonWebClient(@Value("${spring.python.url}") String baseUrl, OutboundHttpClients clients) {
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(clients.connector(Upstream.PYTHON))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.dobongzip.dobong.global.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 연결 설정 (app.http)
+ * - defaults 를 기본으로, upstreams.{google|wikipedia|seoul|dobong|python} 에서 항목별로 덮어씀
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.http")
+public class OutboundHttpProperties {
+
+    private Pool defaults = new Pool();
+    private Map<Upstream, Pool> upstreams = new EnumMap<>(Upstream.class);
+
+    @Getter
+    @Setter
+    public static class Pool {
+        /** 최대 연결 수 */
+        private Integer maxConnections;
+        /** 풀이 가득 찼을 때 연결을 기다리는 최대 시간 */
+        private Duration pendingAcquireTimeout;
+        /** 이 시간 동안 쓰지 않은 연결은 닫음 (keep-alive 유지 상한) */
+        private Duration maxIdleTime;
+        /** 연결 최대 수명 (DNS 변경 반영용) */
+        private Duration maxLifeTime;
+        private Duration connectTimeout;
+        /** 응답 대기 시간 */
+        private Duration readTimeout;
+        /** TLS(ALPN) 협상 시 HTTP/2 사용 */
+        private Boolean http2;
+    }
+
+    /** 대상별 설정 (없는 값은 defaults, 그것도 없으면 내장 기본값) */
+    public Pool resolve(Upstream upstream) {
+        Pool o = upstreams.getOrDefault(upstream, new Pool());
+        Pool r = new Pool();
+        r.maxConnections = pick(o.maxConnections, defaults.maxConnections, 50);
+        r.pendingAcquireTimeout = pick(o.pendingAcquireTimeout, defaults.pendingAcquireTimeout, Duration.ofSeconds(5));
+        r.maxIdleTime = pick(o.maxIdleTime, defaults.maxIdleTime, Duration.ofSeconds(30));
+        r.maxLifeTime = pick(o.maxLifeTime, defaults.maxLifeTime, Duration.ofMinutes(5));
+        r.connectTimeout = pick(o.connectTimeout, defaults.connectTimeout, Duration.ofSeconds(3));
+        r.readTimeout = pick(o.readTimeout, defaults.readTimeout, Duration.ofSeconds(10));
+        r.http2 = pick(o.http2, defaults.http2, true);
+        return r;
+    }
+
+    private static <T> T pick(T override, T fallback, T builtin) {
+        if (override != null) return override;
+        return (fallback != null) ? fallback : builtin;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dobongzip.dobong.global.http;
+
+/** 외부 연동 대상 — 대상마다 연결 풀/타임아웃을 따로 둠 */
+public enum Upstream {
+    GOOGLE,
+    WIKIPEDIA,
+    SEOUL,
+    DOBONG,
+    PYTHON;
+
+    /** 지표 태그/풀 이름 */
+    public String key() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,23 @@
+package com.dobongzip.dobong.global.http;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+/**
+ * 서킷 브레이커 실패 판정 (resilience4j.circuitbreaker.configs.default.record-failure-predicate)
+ * - 4xx(잘못된 요청/없음)는 상대가 정상 응답한 것 → 실패로 세지 않음
+ * - 동시 호출 한도 초과는 우리 쪽 제한 → 실패로 세지 않음
+ * - 그 외(타임아웃, 연결 실패, 5xx)는 실패
+ */
+public class UpstreamFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable t) {
+        if (t instanceof HttpClientErrorException) return false;
+        if (t instanceof WebClientResponseException w && w.getStatusCode().is4xxClientError()) return false;
+        return !(t instanceof BulkheadFullException);
+    }
+}
@@ -0,0 +1,70 @@
+package com.dobongzip.dobong.global.http;
+
+import com.dobongzip.dobong.global.exception.BusinessException;
+import com.dobongzip.dobong.global.response.StatusCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출 보호막 (대상별 서킷 브레이커 + 동시 호출 제한)
+ * - 설정: resilience4j.circuitbreaker / resilience4j.bulkhead 의 instances.{google|wikipedia|seoul|dobong|python}
+ * - 브레이커가 열렸거나 동시 호출 한도가 찼으면 요청 스레드를 잡아두지 않고 즉시 UPSTREAM_UNAVAILABLE(503)
+ * - 실패 판정: UpstreamFailurePredicate (4xx 는 실패로 세지 않음)
+ * - 상태: /actuator/health (circuitBreakers), /actuator/circuitbreakers, resilience4j.* 지표
+ */
+@Slf4j
+@Component
+public class UpstreamGuard {
+
+    private final Map<Upstream, CircuitBreaker> breakers = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, Bulkhead> bulkheads = new EnumMap<>(Upstream.class);
+
+    public UpstreamGuard(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        for (Upstream u : Upstream.values()) {
+            breakers.put(u, circuitBreakerRegistry.circuitBreaker(u.key()));
+            bulkheads.put(u, bulkheadRegistry.bulkhead(u.key()));
+        }
+    }
+
+    /** 보호된 호출 — 원래 예외는 그대로 전파, 빠른 실패만 BusinessException 으로 바꿈 */
+    public <T> T call(Upstream upstream, Supplier<T> call) {
+        Supplier<T> guarded = CircuitBreaker.decorateSupplier(breakers.get(upstream),
+                Bulkhead.decorateSupplier(bulkheads.get(upstream), call));
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("[UpstreamGuard] {} fast-fail | {}", upstream.key(), e.getMessage());
+            throw BusinessException.of(StatusCode.UPSTREAM_UNAVAILABLE);
+        }
+    }
+
+    /** 비동기 보호 호출 — 동시 호출 한도는 구독~완료 동안 점유, 빠른 실패 처리는 call 과 같음 */
+    public <T> Mono<T> callAsync(Upstream upstream, Mono<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkheads.get(upstream)))
+                .transformDeferred(CircuitBreakerOperator.of(breakers.get(upstream)))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException, e -> {
+                    log.warn("[UpstreamGuard] {} fast-fail | {}", upstream.key(), e.getMessage());
+                    return BusinessException.of(StatusCode.UPSTREAM_UNAVAILABLE);
+                });
+    }
+
+    /** 지금 호출해도 되는지 (브레이커가 열려 있으면 false) — 선택적 작업을 미리 건너뛸 때 */
+    public boolean isAvailable(Upstream upstream) {
+        CircuitBreaker.State state = breakers.get(upstream).getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+}
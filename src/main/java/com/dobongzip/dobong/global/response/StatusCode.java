@@ -25,6 +25,7 @@ public enum StatusCode {
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "REVIEW404", "리뷰를 찾을 수 없습니다."),
     REVIEW_FORBIDDEN(HttpStatus.FORBIDDEN, "REVIEW403", "리뷰에 대한 권한이 없습니다."),
     REVIEW_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "REVIEW401", "로그인이 필요합니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "REVIEW4002", "잘못된 페이지 커서입니다. 첫 페이지부터 다시 조회해주세요."),
 
     // ── 유저 관리/소셜 ───────────────────────────────────────────────────────
     USER_NOT_FOUND_BY_EMAIL(HttpStatus.BAD_REQUEST, "USER4004", "해당 이메일로 가입된 사용자가 없습니다."),
@@ -38,6 +39,8 @@ public enum StatusCode {
     SEOUL_EVENT_API_BAD_RESPONSE(HttpStatus.BAD_GATEWAY, "EXT5022", "서울시 문화행사 API 응답 형식이 올바르지 않습니다."),
     DOBONG_OPENAPI_FAILED(HttpStatus.BAD_GATEWAY, "EXT5023", "도봉구 오픈API 호출에 실패했습니다."),
     DOBONG_OPENAPI_BAD_RESPONSE(HttpStatus.BAD_GATEWAY, "EXT5024", "도봉구 오픈API 응답 형식이 올바르지 않습니다."),
+    PLACES_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "EXT4291", "장소 정보 요청이 많아 잠시 제한되었습니다. 잠시 후 다시 시도해주세요."),
+    UPSTREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "EXT5031", "외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
 
     // ── 기타 ────────────────────────────────────────────────────────────────
     FAILURE_TEST(HttpStatus.INTERNAL_SERVER_ERROR, "TEST001", "테스트 실패 응답입니다."),
@@ -0,0 +1,75 @@
+package com.dobongzip.dobong.global.s3.service;
+
+import com.dobongzip.dobong.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 회원 프로필 이미지 URL 일괄 조회 (리뷰 목록 아바타)
+ * - 페이지 작성자 id 묶음 → 캐시에 없는 id 만 IN 쿼리 한 번 → ImageService.resolveUrl
+ * - 리뷰 수와 무관하게 페이지당 쿼리 0~1회
+ * - 프로필 이미지 변경/제거 시 evict (커밋 후) — 그 외에는 TTL 로 정리 (app.profile.avatar-cache-ttl)
+ */
+@Component
+public class ProfileAvatarResolver {
+
+    private final UserRepository userRepository;
+    private final ImageService imageService;
+    private final Cache<Long, String> cache;
+
+    public ProfileAvatarResolver(UserRepository userRepository,
+                                 ImageService imageService,
+                                 @Value("${app.profile.avatar-cache-ttl:10m}") Duration cacheTtl,
+                                 MeterRegistry registry) {
+        this.userRepository = userRepository;
+        this.imageService = imageService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "profile.avatar");
+    }
+
+    /** userId → 프로필 URL (없는 회원은 결과에서 빠짐) */
+    public Map<Long, String> resolveAll(Collection<Long> userIds) {
+        Set<Long> ids = new HashSet<>();
+        for (Long id : userIds) {
+            if (id != null) ids.add(id);
+        }
+        if (ids.isEmpty()) return Map.of();
+        return cache.getAll(ids, this::load);
+    }
+
+    /** 프로필 이미지 변경 후 호출 — 트랜잭션 안이면 커밋 후 무효화 */
+    public void evict(Long userId) {
+        if (userId == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidate(userId);
+            }
+        });
+    }
+
+    private Map<Long, String> load(Set<? extends Long> missing) {
+        Map<Long, String> out = new HashMap<>();
+        for (UserRepository.ProfileImageKey row : userRepository.findProfileImageKeys(new ArrayList<>(missing))) {
+            out.put(row.getId(), imageService.resolveUrl(row.getProfileImageKey()));
+        }
+        return out;
+    }
+}
@@ -5,6 +5,7 @@ import com.dobongzip.dobong.domain.user.repository.UserRepository;
 import com.dobongzip.dobong.global.exception.BusinessException;
 import com.dobongzip.dobong.global.response.StatusCode;
 import com.dobongzip.dobong.global.s3.service.ImageService;
+import com.dobongzip.dobong.global.s3.service.ProfileAvatarResolver;
 import com.dobongzip.dobong.global.security.dto.auth.request.AppLoginRequestDto;
 import com.dobongzip.dobong.global.security.dto.auth.request.AppSignupRequestDto;
 import com.dobongzip.dobong.global.security.dto.auth.request.PasswordResetRequestDto;
@@ -36,6 +37,7 @@ public class AuthService {
     private final JwtExpiryService jwtExpiryService;
     private final AuthenticatedProvider authenticatedProvider;
     private final ImageService imageService;
+    private final ProfileAvatarResolver avatarResolver;
 
     // 일반 로그인
     @Transactional(readOnly = true)
@@ -199,6 +201,7 @@ public class AuthService {
 
         // 프로필 이미지 정리
         imageService.removeProfileImage(user);
+        avatarResolver.evict(user.getId());
 
         // 이메일/닉네임 치환(유니크 충돌 방지)
         user.setNickname("탈퇴회원");
@@ -0,0 +1,94 @@
+package com.dobongzip.dobong.domain.map.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlacesResponseCacheTest {
+
+    private static PlacesResponseCache newCache() {
+        PlacesCacheProperties props = new PlacesCacheProperties();
+        props.setL2Enabled(false); // Redis 없이 L1 만
+        return new PlacesResponseCache(null, props, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 같은_검색의_동시_미스는_Places_호출_한번으로_합쳐진다() throws Exception {
+        PlacesResponseCache cache = newCache();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        AtomicInteger arrived = new AtomicInteger();
+
+        List<String> results = SingleFlightTest.runConcurrently(() -> {
+            arrived.incrementAndGet();
+            return cache.get(PlacesCacheTier.SEARCH, "도봉산|37.6688|127.0471", String.class, () -> {
+                upstreamCalls.incrementAndGet();
+                SingleFlightTest.awaitAllArrived(arrived);
+                return "search";
+            });
+        });
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(results).containsOnly("search");
+
+        // 이후 호출은 캐시 적중
+        cache.get(PlacesCacheTier.SEARCH, "도봉산|37.6688|127.0471", String.class, () -> {
+            upstreamCalls.incrementAndGet();
+            return "again";
+        });
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void soft_TTL_지난_항목은_즉시_응답하고_뒤에서_갱신한다() throws Exception {
+        PlacesCacheProperties props = new PlacesCacheProperties();
+        props.setL2Enabled(false);
+        props.setSearchSoftTtl(Duration.ZERO); // 저장 즉시 stale
+        PlacesResponseCache cache = new PlacesResponseCache(null, props, new SimpleMeterRegistry());
+
+        cache.get(PlacesCacheTier.SEARCH, "p", String.class, () -> "v1");
+
+        // 오래된 값을 바로 돌려주고, 갱신은 백그라운드에서
+        String served = cache.get(PlacesCacheTier.SEARCH, "p", String.class, () -> "v2");
+        assertThat(served).isEqualTo("v1");
+
+        long deadline = System.currentTimeMillis() + 2000;
+        String refreshed = served;
+        while (!"v2".equals(refreshed) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            refreshed = (String) cache.lookup(PlacesCacheTier.SEARCH, "p", String.class).value();
+        }
+        assertThat(refreshed).isEqualTo("v2");
+    }
+
+    @Test
+    void 백그라운드_갱신이_실패하면_기존_값을_유지한다() throws Exception {
+        PlacesCacheProperties props = new PlacesCacheProperties();
+        props.setL2Enabled(false);
+        props.setSearchSoftTtl(Duration.ZERO);
+        PlacesResponseCache cache = new PlacesResponseCache(null, props, new SimpleMeterRegistry());
+
+        cache.get(PlacesCacheTier.SEARCH, "p", String.class, () -> "v1");
+        String served = cache.get(PlacesCacheTier.SEARCH, "p", String.class,
+                () -> { throw new IllegalStateException("upstream down"); });
+        Thread.sleep(100);
+
+        assertThat(served).isEqualTo("v1");
+        assertThat(cache.lookup(PlacesCacheTier.SEARCH, "p", String.class).value()).isEqualTo("v1");
+    }
+
+    @Test
+    void null_결과는_캐시하지_않는다() {
+        PlacesResponseCache cache = newCache();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        cache.get(PlacesCacheTier.PHOTO, "p", String.class, () -> { upstreamCalls.incrementAndGet(); return null; });
+        cache.get(PlacesCacheTier.PHOTO, "p", String.class, () -> { upstreamCalls.incrementAndGet(); return null; });
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+}
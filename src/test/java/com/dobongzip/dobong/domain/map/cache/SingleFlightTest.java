@@ -0,0 +1,137 @@
+package com.dobongzip.dobong.domain.map.cache;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 32;
+
+    @Test
+    void 동시_호출은_외부_호출_한번을_공유한다() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        AtomicInteger arrived = new AtomicInteger();
+
+        List<String> results = runConcurrently(() -> {
+            arrived.incrementAndGet();
+            return flight.execute("ChIJ-place", () -> {
+                upstreamCalls.incrementAndGet();
+                awaitAllArrived(arrived);
+                return "detail";
+            });
+        });
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(results).hasSize(CALLERS).containsOnly("detail");
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void 실패는_대기자_모두에게_전달되고_키는_비워진다() {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+
+        assertThatThrownBy(() -> flight.execute("k", () -> { throw new IllegalStateException("upstream 500"); }))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 실패 결과를 붙잡아두지 않음 → 다음 호출은 다시 실행
+        assertThat(flight.execute("k", () -> "ok")).isEqualTo("ok");
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void 다른_키는_합쳐지지_않는다() throws Exception {
+        SingleFlight<Integer, Integer> flight = new SingleFlight<>();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        AtomicInteger seq = new AtomicInteger();
+
+        List<Integer> results = runConcurrently(() -> {
+            int key = seq.getAndIncrement() % 2;
+            return flight.execute(key, () -> {
+                upstreamCalls.incrementAndGet();
+                return key;
+            });
+        });
+
+        assertThat(results).hasSize(CALLERS);
+        assertThat(upstreamCalls.get()).isBetween(2, CALLERS);
+    }
+
+    @Test
+    void 먼저_구독한_쪽이_취소해도_합류한_호출은_결과를_받는다() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        Disposable leader = flight.executeAsync("k", () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        }).subscribe();
+        CompletableFuture<String> joiner = flight.executeAsync("k", () -> Mono.just("second-call")).toFuture();
+
+        leader.dispose(); // 타임아웃 등으로 먼저 구독한 쪽만 취소
+        upstream.tryEmitValue("detail");
+
+        assertThat(joiner.get(1, TimeUnit.SECONDS)).isEqualTo("detail");
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void 모두_취소하면_외부_호출_구독을_해제한다() {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        Disposable a = flight.executeAsync("k", () -> Mono.<String>never().doOnCancel(() -> cancelled.set(true))).subscribe();
+        Disposable b = flight.executeAsync("k", () -> Mono.just("unused")).subscribe();
+
+        a.dispose();
+        assertThat(cancelled).isFalse();
+        b.dispose();
+        assertThat(cancelled).isTrue();
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    static <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> out = new ArrayList<>();
+            for (Future<T> f : futures) out.add(f.get(5, TimeUnit.SECONDS));
+            return out;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** 모든 호출자가 execute 에 들어올 때까지 외부 호출을 붙잡아둠 */
+    static void awaitAllArrived(AtomicInteger arrived) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (arrived.get() < CALLERS && System.nanoTime() < deadline) Thread.onSpinWait();
+        try {
+            Thread.sleep(50); // 마지막 호출자가 putIfAbsent 까지 도달할 여유
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.dobongzip.dobong.domain.map.service;
+
+import com.dobongzip.dobong.domain.map.client.GooglePlacesClientV1;
+import com.dobongzip.dobong.domain.map.dto.response.ReviewListResponse;
+import com.dobongzip.dobong.domain.map.entity.PlaceReview;
+import com.dobongzip.dobong.domain.user.entity.User;
+import com.dobongzip.dobong.global.security.jwt.AuthenticatedProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 리뷰 목록 SQL 횟수 — 리뷰(작성자) 수와 무관하게 목록 쿼리 1회
+ * - 집계 헤더(PlaceReviewStats)는 별도 캐시 경로라 목 처리 → 여기서는 목록 행 조회만 셈
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ReviewService.class)
+class ReviewListQueryCountTest {
+
+    @Autowired private ReviewService reviewService;
+    @Autowired private TestEntityManager em;
+    @Autowired private EntityManagerFactory emf;
+
+    @MockitoBean private GooglePlacesClientV1 v1;
+    @MockitoBean private PlaceReviewStats reviewStats;
+    @MockitoBean private AuthenticatedProvider authenticatedProvider;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        given(reviewStats.get(anyString())).willReturn(PlaceReviewStats.Summary.EMPTY);
+    }
+
+    @Test
+    void 작성자가_많아도_목록_조회는_쿼리_한번() {
+        long few = statementsFor(seed("place-few", 3));
+        long many = statementsFor(seed("place-many", 40));
+
+        assertThat(few).isEqualTo(1);
+        assertThat(many).isEqualTo(few);
+    }
+
+    @Test
+    void 다음_페이지도_쿼리_한번이고_User_를_읽지_않는다() {
+        String placeId = seed("place-paged", 30);
+        ReviewListResponse first = reviewService.getLocalReviews(placeId, 10, null, null);
+        em.clear();
+
+        statistics.clear();
+        ReviewListResponse second = reviewService.getLocalReviews(placeId, 10, first.getNextCursor(), null);
+
+        assertThat(second.getReviews()).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    /** 작성자 n 명이 리뷰 1건씩 — 내 리뷰 표시(isMine)가 있도록 첫 작성자를 로그인 사용자로 */
+    private String seed(String placeId, int authors) {
+        Long firstAuthorId = null;
+        for (int i = 0; i < authors; i++) {
+            User user = em.persist(User.builder()
+                    .email(placeId + "-" + i + "@dobong.test")
+                    .nickname("user" + i)
+                    .active(true)
+                    .build());
+            if (firstAuthorId == null) firstAuthorId = user.getId();
+            em.persist(PlaceReview.builder()
+                    .placeId(placeId)
+                    .author(user)
+                    .authorName("user" + i)
+                    .rating(1.0 + (i % 5))
+                    .text("review " + i)
+                    .deleted(false)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        given(authenticatedProvider.currentUserIdOrNull()).willReturn(firstAuthorId);
+        return placeId;
+    }
+
+    private long statementsFor(String placeId) {
+        statistics.clear();
+        ReviewListResponse res = reviewService.getLocalReviews(placeId, 50, null, null);
+
+        assertThat(res.getReviews()).anyMatch(ReviewListResponse.Review::isMine);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        em.clear();
+        return statistics.getPrepareStatementCount();
+    }
+}